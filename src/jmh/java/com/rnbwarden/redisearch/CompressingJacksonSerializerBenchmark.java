@@ -0,0 +1,67 @@
+package com.rnbwarden.redisearch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.compression.CompressionType;
+import com.rnbwarden.redisearch.entity.Brand;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import com.rnbwarden.redisearch.format.DocumentFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the sdoc blob round trip for ProductEntity graphs of increasing size.
+ *
+ * Run with: ./gradlew jmh -PjmhInclude=CompressingJacksonSerializerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompressingJacksonSerializerBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int skuCount;
+
+    @Param({"GZIP", "LZ4", "ZSTD", "DEFLATE"})
+    private CompressionType compressionType;
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private DocumentFormat documentFormat;
+
+    private CompressingJacksonSerializer<ProductEntity> serializer;
+    private ProductEntity product;
+    private byte[] serializedProduct;
+
+    @Setup
+    public void setUp() {
+
+        serializer = new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper(), compressionType, documentFormat);
+        product = ProductEntityFixtures.createProduct(1, skuCount);
+        serializedProduct = serializer.serialize(product);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+
+        return serializer.serialize(product);
+    }
+
+    @Benchmark
+    public ProductEntity deserialize() {
+
+        return serializer.deserialize(serializedProduct);
+    }
+
+    @Benchmark
+    public ProductSummary deserializeProjection() {
+
+        return serializer.deserialize(serializedProduct, ProductSummary.class);
+    }
+
+    public interface ProductSummary {
+
+        String getId();
+
+        Brand getBrand();
+    }
+}
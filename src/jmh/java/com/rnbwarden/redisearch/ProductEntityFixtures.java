@@ -0,0 +1,47 @@
+package com.rnbwarden.redisearch;
+
+import com.rnbwarden.redisearch.entity.Brand;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import com.rnbwarden.redisearch.entity.SkuEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds ProductEntity graphs of a given size for the benchmarks.
+ */
+public final class ProductEntityFixtures {
+
+    private static final int ATTRIBUTES_PER_SKU = 8;
+
+    private ProductEntityFixtures() {
+
+    }
+
+    public static ProductEntity createProduct(int id, int skuCount) {
+
+        List<SkuEntity> skus = new ArrayList<>(skuCount);
+        for (int i = 0; i < skuCount; i++) {
+            skus.add(new SkuEntity(String.format("sku-%d-%04d", id, i), createAttributes(i)));
+        }
+        return new ProductEntity("id" + id, "FALCON-" + id, id % 2 == 0 ? Brand.NIKE : Brand.ADIDAS, skus);
+    }
+
+    private static Map<String, String> createAttributes(int index) {
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("color", index % 2 == 0 ? "black" : "white");
+        attributes.put("size", String.valueOf(6 + (index % 10)));
+        attributes.put("price", String.format("%d.99", 49 + (index % 50)));
+        attributes.put("width", index % 3 == 0 ? "wide" : "regular");
+        attributes.put("gtin", String.format("00%012d", index));
+        attributes.put("material", "synthetic leather / mesh upper");
+        attributes.put("availability", index % 5 == 0 ? "backorder" : "in-stock");
+        for (int i = attributes.size(); i < ATTRIBUTES_PER_SKU; i++) {
+            attributes.put("attr" + i, "value" + i);
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,83 @@
+package com.rnbwarden.redisearch.client;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compares a parallel stream over cursor results split by {@link Spliterators#spliterator(Iterator, long, int)}, as the
+ * cursor results previously did, with one split by page through {@link CursorPageSpliterator}. Each result burns CPU
+ * to stand in for deserialization, so the page spliterator should scale with the common pool while the iterator based
+ * one is held back by its small, growing array batches.
+ *
+ * Run on 8 to 32 cores with: ./gradlew jmh -PjmhInclude=CursorSpliteratorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CursorSpliteratorBenchmark {
+
+    @Param({"10000", "100000"})
+    private int totalResults;
+
+    @Param({"1000"})
+    private int pageSize;
+
+    @Param({"500"})
+    private int deserializationTokens;
+
+    private List<List<Integer>> pages;
+
+    @Setup
+    public void setUp() {
+
+        pages = new ArrayList<>();
+        for (int from = 0; from < totalResults; from += pageSize) {
+            List<Integer> page = new ArrayList<>(pageSize);
+            for (int result = from; result < Math.min(from + pageSize, totalResults); result++) {
+                page.add(result);
+            }
+            pages.add(page);
+        }
+    }
+
+    @Benchmark
+    public long iteratorSpliterator() {
+
+        Iterator<Integer> iterator = pages.stream().flatMap(List::stream).iterator();
+        Spliterator<Integer> spliterator = Spliterators.spliterator(iterator, totalResults, Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, true).mapToLong(this::deserialize).sum();
+    }
+
+    @Benchmark
+    public long pageSpliterator() {
+
+        Iterator<List<Integer>> cursor = pages.subList(1, pages.size()).iterator();
+        Supplier<List<Integer>> nextPageSupplier = () -> {
+            try {
+                return cursor.next();
+            } catch (NoSuchElementException e) {
+                return List.of();
+            }
+        };
+        PrefetchingPageReader<List<Integer>> pageReader = new PrefetchingPageReader<>(pages.get(0), nextPageSupplier, page -> !page.isEmpty(), 1);
+        CursorPageSpliterator<List<Integer>, Integer> spliterator = new CursorPageSpliterator<>(pages.get(0), pageReader, Function.identity(), totalResults);
+        return StreamSupport.stream(spliterator, true).mapToLong(this::deserialize).sum();
+    }
+
+    private long deserialize(Integer result) {
+
+        Blackhole.consumeCPU(deserializationTokens);
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package com.rnbwarden.redisearch.client;
+
+import com.rnbwarden.redisearch.ProductEntityFixtures;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the per-call reflection previously used to read RediSearch annotated fields and methods with the accessors
+ * built by {@link FieldAccessors}, against a direct call.
+ *
+ * Run with: ./gradlew jmh -PjmhInclude=FieldAccessorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldAccessorBenchmark {
+
+    private ProductEntity product;
+    private Field field;
+    private Method method;
+    private Function<ProductEntity, Object> fieldAccessor;
+    private Function<ProductEntity, Object> methodAccessor;
+
+    @Setup
+    public void setUp() throws Exception {
+
+        product = ProductEntityFixtures.createProduct(1, 1);
+        field = ProductEntity.class.getDeclaredField("articleNumber");
+        method = ProductEntity.class.getMethod("getArticleNumber");
+        fieldAccessor = FieldAccessors.forField(field);
+        methodAccessor = FieldAccessors.forMethod(method);
+    }
+
+    @Benchmark
+    public Object directCall() {
+
+        return product.getArticleNumber();
+    }
+
+    @Benchmark
+    public Object reflectiveField() throws IllegalAccessException {
+
+        boolean accessible = field.isAccessible();
+        field.setAccessible(true);
+        Object value = field.get(product);
+        field.setAccessible(accessible);
+        return value;
+    }
+
+    @Benchmark
+    public Object reflectiveMethod() throws Exception {
+
+        return method.invoke(product, (Object[]) null);
+    }
+
+    @Benchmark
+    public Object fieldAccessor() {
+
+        return fieldAccessor.apply(product);
+    }
+
+    @Benchmark
+    public Object methodAccessor() {
+
+        return methodAccessor.apply(product);
+    }
+}
@@ -0,0 +1,59 @@
+package com.rnbwarden.redisearch.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.client.context.SearchContext;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import com.rnbwarden.redisearch.entity.QueryField;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lookup-table query escaping of {@link QueryField} with the regex it replaced, and measures building a
+ * query string from a {@link SearchContext}.
+ *
+ * Run with: ./gradlew jmh -PjmhInclude=QueryStringBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryStringBenchmark {
+
+    private static final String REGEX = "([,.<>{}\\[\\]\"':;!@#$%^&*()\\-+=~\\\\\\s]|[&|]{2})";
+
+    @Param({"FALCON01", "Nike Air-Max 90 (white/black)"})
+    private String value;
+
+    private InMemoryRediSearchClient<ProductEntity> client;
+    private SearchContext<ProductEntity> searchContext;
+
+    @Setup
+    public void setUp() {
+
+        client = new InMemoryRediSearchClient<>(ProductEntity.class,
+                new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper()));
+        searchContext = new SearchContext<>();
+        searchContext.addField(client.getField(ProductEntity.ARTICLE_NUMBER), value);
+        searchContext.addField(client.getField(ProductEntity.SKUS), List.of(value, value + "-2", value + "-3"));
+    }
+
+    @Benchmark
+    public String escapeRegex() {
+
+        return value.replaceAll(REGEX, "\\\\$1");
+    }
+
+    @Benchmark
+    public String escape() {
+
+        return QueryField.escapeSpecialCharacters(value);
+    }
+
+    @Benchmark
+    public String buildQueryString() {
+
+        return client.buildQueryString(searchContext);
+    }
+}
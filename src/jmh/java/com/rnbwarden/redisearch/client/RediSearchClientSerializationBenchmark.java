@@ -0,0 +1,50 @@
+package com.rnbwarden.redisearch.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.ProductEntityFixtures;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full per-document save/read path of {@link AbstractRediSearchClient}: field extraction plus sdoc
+ * serialization, and sdoc deserialization of a cursor row.
+ *
+ * Run with: ./gradlew jmh -PjmhInclude=RediSearchClientSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RediSearchClientSerializationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int skuCount;
+
+    private InMemoryRediSearchClient<ProductEntity> client;
+    private ProductEntity product;
+    private Map<String, Object> serializedFields;
+
+    @Setup
+    public void setUp() {
+
+        client = new InMemoryRediSearchClient<>(ProductEntity.class,
+                new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper()));
+        product = ProductEntityFixtures.createProduct(1, skuCount);
+        serializedFields = client.serialize(product);
+    }
+
+    @Benchmark
+    public Map<String, Object> serialize() {
+
+        return client.serialize(product);
+    }
+
+    @Benchmark
+    public ProductEntity deserialize() {
+
+        return client.deserialize(serializedFields);
+    }
+}
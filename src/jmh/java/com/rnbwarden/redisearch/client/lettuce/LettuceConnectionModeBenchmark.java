@@ -0,0 +1,85 @@
+package com.rnbwarden.redisearch.client.lettuce;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redislabs.lettusearch.RediSearchClient;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.ProductEntityFixtures;
+import com.rnbwarden.redisearch.client.context.SearchContext;
+import com.rnbwarden.redisearch.config.factorybean.RediSearchLettuceClientFactoryBean;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.codec.RedisCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.rnbwarden.redisearch.entity.ProductEntity.ARTICLE_NUMBER;
+
+/**
+ * Compares the blocking commands of a client run on its own connection pool, as by default, with the same commands
+ * multiplexed over connections shared by every client. Run in throughput mode and in sample mode, which reports the
+ * p99 latency, against a local Redis with the RediSearch module:
+ *
+ * ./gradlew jmh -PjmhInclude=LettuceConnectionModeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class LettuceConnectionModeBenchmark {
+
+    @Param({"pooled", "shared"})
+    private String connectionMode;
+
+    @Param({"1", "4"})
+    private int stripes;
+
+    @Param({"1000"})
+    private int productCount;
+
+    private RediSearchClient rediSearchClient;
+    private LettuceSharedConnections sharedConnections;
+    private LettuceRediSearchClient<ProductEntity> client;
+
+    @Setup
+    public void setUp() {
+
+        rediSearchClient = RediSearchClient.create(RedisURI.create("localhost", 6379));
+        RedisCodec<String, Object> redisCodec = new RediSearchLettuceClientFactoryBean.LettuceRedisCodec();
+        if ("shared".equals(connectionMode)) {
+            sharedConnections = new LettuceSharedConnections(rediSearchClient, redisCodec, stripes);
+        }
+        client = new LettuceRediSearchClient<>(ProductEntity.class, rediSearchClient, redisCodec,
+                new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper()), 1000L, sharedConnections);
+        for (int id = 0; id < productCount; id++) {
+            client.save(ProductEntityFixtures.createProduct(id, 4));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        client.dropIndex();
+        if (sharedConnections != null) {
+            sharedConnections.close();
+        }
+        rediSearchClient.shutdown();
+    }
+
+    @Benchmark
+    public Optional<ProductEntity> findByKey() {
+
+        return client.findByKey("id" + ThreadLocalRandom.current().nextInt(productCount));
+    }
+
+    @Benchmark
+    public int find() {
+
+        String articleNumber = "FALCON-" + ThreadLocalRandom.current().nextInt(productCount);
+        SearchContext<ProductEntity> searchContext = client.getSearchContextWithFields(Map.of(ARTICLE_NUMBER, articleNumber));
+        return client.find(searchContext).getResults().size();
+    }
+}
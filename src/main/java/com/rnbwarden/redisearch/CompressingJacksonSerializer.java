@@ -1,30 +1,96 @@
 package com.rnbwarden.redisearch;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.compression.CompressionCodec;
+import com.rnbwarden.redisearch.compression.CompressionCodecs;
+import com.rnbwarden.redisearch.compression.CompressionType;
+import com.rnbwarden.redisearch.compression.GzipCompressionCodec;
+import com.rnbwarden.redisearch.compression.StreamingCompressionCodec;
+import com.rnbwarden.redisearch.compression.StreamingCompressionCodec.DocumentReader;
+import com.rnbwarden.redisearch.compression.ZstdDictionaryCompressionCodec;
+import com.rnbwarden.redisearch.format.DocumentFormat;
+import com.rnbwarden.redisearch.format.DocumentFormatMappers;
+import com.rnbwarden.redisearch.projection.DocumentProjection;
+import com.rnbwarden.redisearch.projection.ProjectionBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.SerializationException;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.System.currentTimeMillis;
 
+/**
+ * Jackson serializer that compresses the JSON (or binary {@link DocumentFormat}) document with the configured
+ * {@link CompressionType}.
+ *
+ * The first byte of each serialized value identifies the compression type used to write it. Values are always
+ * decompressed according to their own header, so documents written with a different (or no) header remain readable.
+ *
+ * When the codec is a {@link StreamingCompressionCodec} (ex: {@link CompressionType#DEFLATE}) Jackson writes straight
+ * into the compressor and reads straight from the decompressed buffer, skipping the intermediate JSON byte[] copies.
+ *
+ * Documents smaller than the compression threshold are stored uncompressed ({@link CompressionType#NONE}).
+ *
+ * The document format is detected on read, so documents written with another {@link DocumentFormat} remain readable.
+ *
+ * Documents may also be read partially, binding only a projection of their properties with the streaming parser.
+ */
 public class CompressingJacksonSerializer<T> extends Jackson2JsonRedisSerializer<T> {
 
-    private static final int WORK_BUFFER_SIZE = 8192;
     private final Logger logger = LoggerFactory.getLogger(CompressingJacksonSerializer.class);
     private final Class<T> clazz;
+    private final ObjectMapper sourceObjectMapper;
+    private final ObjectMapper objectMapper;
+    private final DocumentFormat documentFormat;
+    private final Map<DocumentFormat, ObjectMapper> readerObjectMappers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ProjectionBinder<?>> projectionBinders = new ConcurrentHashMap<>();
+    private final CompressionCodec compressionCodec;
+    private int compressionThreshold = 0;
 
     public CompressingJacksonSerializer(Class<T> type, ObjectMapper objectMapper) {
 
+        this(type, objectMapper, CompressionType.GZIP);
+    }
+
+    public CompressingJacksonSerializer(Class<T> type, ObjectMapper objectMapper, CompressionType compressionType) {
+
+        this(type, objectMapper, compressionType == CompressionType.ZSTD_DICTIONARY ?
+                new ZstdDictionaryCompressionCodec() :
+                CompressionCodecs.get(compressionType));
+    }
+
+    public CompressingJacksonSerializer(Class<T> type, ObjectMapper objectMapper, CompressionCodec compressionCodec) {
+
+        this(type, objectMapper, compressionCodec, DocumentFormat.JSON);
+    }
+
+    public CompressingJacksonSerializer(Class<T> type, ObjectMapper objectMapper, CompressionType compressionType, DocumentFormat documentFormat) {
+
+        this(type, objectMapper, compressionType == CompressionType.ZSTD_DICTIONARY ?
+                new ZstdDictionaryCompressionCodec() :
+                CompressionCodecs.get(compressionType), documentFormat);
+    }
+
+    /**
+     * @param objectMapper the JSON ObjectMapper; for binary document formats its configuration is copied
+     */
+    public CompressingJacksonSerializer(Class<T> type, ObjectMapper objectMapper, CompressionCodec compressionCodec, DocumentFormat documentFormat) {
+
         super(type);
-        setObjectMapper(objectMapper);
         this.clazz = type;
+        this.sourceObjectMapper = objectMapper;
+        this.objectMapper = DocumentFormatMappers.create(documentFormat, objectMapper);
+        this.documentFormat = documentFormat;
+        this.compressionCodec = compressionCodec;
+        setObjectMapper(this.objectMapper);
     }
 
     /**
@@ -38,42 +104,203 @@ public class CompressingJacksonSerializer<T> extends Jackson2JsonRedisSerializer
     @Override
     public T deserialize(byte[] bytes) throws SerializationException {
 
+        return readDocument(bytes, this::readValue);
+    }
+
+    /**
+     * Reads the document between the buffer's position and limit without changing either, ex: straight from a Lettuce
+     * reply buffer, which is only valid for the duration of the codec call.
+     *
+     * Heap buffers and streaming codecs ({@link CompressionType#NONE}, {@link CompressionType#DEFLATE}) are read
+     * without copying the document into a new array; other codecs copy direct buffers first.
+     */
+    public T deserialize(ByteBuffer buffer) throws SerializationException {
+
+        if (buffer == null || !buffer.hasRemaining()) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            return readDocument(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), this::readValue);
+        }
+
+        boolean headerlessGzip = GzipCompressionCodec.isHeaderlessGzip(buffer);
+        CompressionCodec codec = getCodec(headerlessGzip, buffer.get(buffer.position()));
+        if (!(codec instanceof StreamingCompressionCodec)) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return deserialize(bytes);
+        }
+
         long startTime = currentTimeMillis();
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(buffer.position() + 1);
+        try {
+            return ((StreamingCompressionCodec) codec).decompress(payload, (decompressed, offset, length) -> {
+                logger.debug("Decompressed. Orig: {}, Decompressed: {}, Time: {}", buffer.remaining(), length, currentTimeMillis() - startTime);
+                return readValue(decompressed, offset, length);
+            });
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not decompress deserialize.", e);
+        }
+    }
+
+    /**
+     * Binds only the properties of the given projection interface or DTO class, see {@link ProjectionBinder}.
+     */
+    public <P> P deserialize(byte[] bytes, Class<P> projectionType) throws SerializationException {
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream(WORK_BUFFER_SIZE);
+        ProjectionBinder<P> projectionBinder = getProjectionBinder(projectionType);
+        return readDocument(bytes, (buffer, offset, length) -> {
+            ObjectMapper mapper = getObjectMapper(buffer, offset, length);
+            return projectionBinder.bind(mapper, readProjection(mapper, projectionBinder.getDocumentProjection(), buffer, offset, length));
+        });
+    }
 
-        final byte[] buffer = new byte[WORK_BUFFER_SIZE];
+    /**
+     * Reads only the given property paths, see {@link DocumentProjection}.
+     */
+    public Map<String, JsonNode> deserialize(byte[] bytes, DocumentProjection documentProjection) throws SerializationException {
 
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
-             GZIPInputStream gzis = new GZIPInputStream(bais, WORK_BUFFER_SIZE)) {
-            int n;
-            while (-1 != (n = gzis.read(buffer))) {
-                baos.write(buffer, 0, n);
-            }
+        return readDocument(bytes, (buffer, offset, length) ->
+                readProjection(getObjectMapper(buffer, offset, length), documentProjection, buffer, offset, length));
+    }
 
+    /**
+     * Projects an already deserialized entity, ex: one decoded by the Lettuce codec.
+     */
+    public <P> P project(T entity, Class<P> projectionType) throws SerializationException {
+
+        ProjectionBinder<P> projectionBinder = getProjectionBinder(projectionType);
+        try {
+            return projectionBinder.bind(objectMapper, project(entity, projectionBinder.getDocumentProjection()));
         } catch (IOException e) {
+            throw new SerializationException("Could not project entity: " + e.getMessage(), e);
+        }
+    }
+
+    public Map<String, JsonNode> project(T entity, DocumentProjection documentProjection) throws SerializationException {
+
+        try (JsonParser parser = objectMapper.treeAsTokens(objectMapper.valueToTree(entity))) {
+            return documentProjection.read(objectMapper, parser);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SerializationException("Could not project entity: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<String, JsonNode> readProjection(ObjectMapper mapper, DocumentProjection documentProjection, byte[] buffer, int offset, int length) throws IOException {
+
+        try (JsonParser parser = mapper.getFactory().createParser(buffer, offset, length)) {
+            return documentProjection.read(mapper, parser);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <P> ProjectionBinder<P> getProjectionBinder(Class<P> projectionType) {
+
+        return (ProjectionBinder<P>) projectionBinders.computeIfAbsent(projectionType, type -> new ProjectionBinder<>(type, objectMapper));
+    }
+
+    private <R> R readDocument(byte[] bytes, DocumentReader<R> reader) throws SerializationException {
+
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return readDocument(bytes, 0, bytes.length, reader);
+    }
+
+    private <R> R readDocument(byte[] bytes, int offset, int length, DocumentReader<R> reader) throws SerializationException {
+
+        long startTime = currentTimeMillis();
+
+        boolean headerlessGzip = GzipCompressionCodec.isHeaderlessGzip(bytes, offset, length);
+        CompressionCodec codec = getCodec(headerlessGzip, bytes[offset]);
+        if (codec instanceof StreamingCompressionCodec) {
+            return readStreaming((StreamingCompressionCodec) codec, bytes, offset, length, reader, startTime);
+        }
+
+        byte[] decompressed;
+        try {
+            decompressed = headerlessGzip ?
+                    codec.decompress(bytes, offset, length) :
+                    codec.decompress(bytes, offset + 1, length - 1);
+        } catch (IOException | RuntimeException e) {
             throw new SerializationException("Could not decompress.", e);
         }
 
-        logger.debug("Decompressed. Orig: {}, Decompressed: {}, Time: {}", bytes.length, baos.size(), currentTimeMillis() - startTime);
-        return super.deserialize(baos.toByteArray());
+        logger.debug("Decompressed. Orig: {}, Decompressed: {}, Time: {}", length, decompressed.length, currentTimeMillis() - startTime);
+        try {
+            return reader.read(decompressed, 0, decompressed.length);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read document: " + e.getMessage(), e);
+        }
+    }
+
+    private T readValue(byte[] buffer, int offset, int length) throws IOException {
+
+        return getObjectMapper(buffer, offset, length).readValue(buffer, offset, length, clazz);
+    }
+
+    private ObjectMapper getObjectMapper(byte[] buffer, int offset, int length) {
+
+        DocumentFormat detectedFormat = DocumentFormat.detect(buffer, offset, length);
+        if (detectedFormat == documentFormat) {
+            return objectMapper;
+        }
+        return readerObjectMappers.computeIfAbsent(detectedFormat, format -> DocumentFormatMappers.create(format, sourceObjectMapper));
+    }
+
+    private CompressionCodec getCodec(boolean headerlessGzip, byte header) {
+
+        if (headerlessGzip) {
+            return CompressionCodecs.get(CompressionType.GZIP);
+        }
+        try {
+            CompressionType compressionType = CompressionType.forHeader(header);
+            return compressionType == compressionCodec.getType() ? compressionCodec : CompressionCodecs.get(compressionType);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Could not decompress.", e);
+        }
+    }
+
+    private <R> R readStreaming(StreamingCompressionCodec codec, byte[] bytes, int offset, int length, DocumentReader<R> reader, long startTime) {
+
+        try {
+            return codec.decompress(bytes, offset + 1, length - 1, (buffer, bufferOffset, bufferLength) -> {
+                logger.debug("Decompressed. Orig: {}, Decompressed: {}, Time: {}", length, bufferLength, currentTimeMillis() - startTime);
+                return reader.read(buffer, bufferOffset, bufferLength);
+            });
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not decompress deserialize.", e);
+        }
     }
 
     @Override
     public byte[] serialize(Object t) throws SerializationException {
 
+        if (compressionCodec instanceof StreamingCompressionCodec) {
+            return serializeStreaming((StreamingCompressionCodec) compressionCodec, t);
+        }
+
         long startTime = currentTimeMillis();
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         byte[] serializedObject = super.serialize(t);
+        CompressionCodec codec = serializedObject.length < compressionThreshold ?
+                CompressionCodecs.get(CompressionType.NONE) :
+                compressionCodec;
 
-        try (GZIPOutputStream gzos = new GZIPOutputStream(baos, WORK_BUFFER_SIZE)) {
-            gzos.write(serializedObject);
-        } catch (IOException e) {
+        try {
+            //a gzip stream identifies itself by its magic number, and stays readable by releases before the header byte
+            if (codec.getType() != CompressionType.GZIP) {
+                baos.write(codec.getType().getHeader());
+            }
+            codec.compress(serializedObject, baos);
+        } catch (IOException | RuntimeException e) {
             throw new SerializationException("Could not compress serialize.", e);
         }
 
-        logger.debug("Compressed. Orig: {}, Compressed: {}, Time: {}, Pct: {}", serializedObject.length, baos.size(),
+        logger.debug("Compressed. Type: {}, Orig: {}, Compressed: {}, Time: {}, Pct: {}", codec.getType(),
+                serializedObject.length, baos.size(),
                 currentTimeMillis() - startTime,
                 100 - (((double) (baos.size())) / ((double) serializedObject.length)) * 100
         );
@@ -81,8 +308,60 @@ public class CompressingJacksonSerializer<T> extends Jackson2JsonRedisSerializer
         return baos.toByteArray();
     }
 
+    private byte[] serializeStreaming(StreamingCompressionCodec codec, Object t) {
+
+        long startTime = currentTimeMillis();
+
+        byte[] compressed;
+        try {
+            compressed = codec.compress(out -> objectMapper.writeValue(out, t), compressionThreshold);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not compress serialize.", e);
+        }
+
+        logger.debug("Compressed. Type: {}, Compressed: {}, Time: {}", CompressionType.forHeader(compressed[0]), compressed.length, currentTimeMillis() - startTime);
+        return compressed;
+    }
+
+    /**
+     * @return the encoded document, without compression or header
+     */
+    public byte[] serializeUncompressed(Object t) throws SerializationException {
+
+        return super.serialize(t);
+    }
+
     public Class<T> getClazz() {
 
         return clazz;
     }
+
+    public DocumentFormat getDocumentFormat() {
+
+        return documentFormat;
+    }
+
+    public CompressionType getCompressionType() {
+
+        return compressionCodec.getType();
+    }
+
+    public CompressionCodec getCompressionCodec() {
+
+        return compressionCodec;
+    }
+
+    public int getCompressionThreshold() {
+
+        return compressionThreshold;
+    }
+
+    /**
+     * Documents whose serialized (uncompressed) size is below this many bytes are stored uncompressed.
+     * Defaults to 0, meaning every document is compressed.
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+
+        this.compressionThreshold = compressionThreshold;
+    }
 }
@@ -1,8 +1,16 @@
 package com.rnbwarden.redisearch.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.client.cache.CacheInvalidationChannel;
+import com.rnbwarden.redisearch.client.cache.QueryResultCache;
 import com.rnbwarden.redisearch.client.context.PagingSearchContext;
 import com.rnbwarden.redisearch.client.context.SearchContext;
+import com.rnbwarden.redisearch.compression.CompressionDictionaryStore;
+import com.rnbwarden.redisearch.compression.CompressionType;
+import com.rnbwarden.redisearch.compression.ZstdDictionaryCompressionCodec;
 import com.rnbwarden.redisearch.entity.*;
+import com.rnbwarden.redisearch.projection.DocumentProjection;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.reflect.MethodUtils;
 import org.slf4j.Logger;
@@ -12,22 +20,32 @@ import org.springframework.util.StopWatch;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 public abstract class AbstractRediSearchClient<E extends RedisSearchableEntity, T extends SearchableField<E>> implements RediSearchClient<E> {
 
-    protected static final String SERIALIZED_DOCUMENT = "sdoc";
+    public static final String SERIALIZED_DOCUMENT = "sdoc";
     protected static final String ALL_QUERY = "*";
+    public static final int DEFAULT_BULK_BATCH_SIZE = 500;
+    public static final int DEFAULT_INDEX_INITIALIZATION_ATTEMPTS = 5;
+    public static final Duration DEFAULT_INDEX_INITIALIZATION_BACKOFF = Duration.ofSeconds(1);
 
     private final Logger logger = LoggerFactory.getLogger(AbstractRediSearchClient.class);
     protected final Long defaultMaxResults;
@@ -37,6 +55,16 @@ public abstract class AbstractRediSearchClient<E extends RedisSearchableEntity,
     protected final RedisSerializer<E> redisSerializer;
     private final Map<String, T> fields = new LinkedHashMap<>();
     private final Class<E> clazz;
+    private int bulkBatchSize = DEFAULT_BULK_BATCH_SIZE;
+    private final String instanceId = UUID.randomUUID().toString();
+    private volatile QueryResultCache<SearchResults<E>> queryResultCache;
+    private volatile CacheInvalidationChannel cacheInvalidationChannel;
+    private volatile CompletableFuture<Void> indexInitialization = CompletableFuture.completedFuture(null);
+    private final Object indexInitializationLock = new Object();
+    /**
+     * The latest attempt of the index initialization, guarded by indexInitializationLock
+     */
+    private CompletableFuture<Void> indexInitializationAttempt;
 
     protected AbstractRediSearchClient(Class<E> clazz,
                                        RedisSerializer<E> redisSerializer,
@@ -63,6 +91,171 @@ public abstract class AbstractRediSearchClient<E extends RedisSearchableEntity,
 
     protected abstract void checkAndCreateIndex();
 
+    /**
+     * Runs the initialization of the index, such as {@link #checkAndCreateIndex()}, on the given executor, so that the
+     * client can be used while the indexes of many clients are initialized concurrently. A failed initialization, ex:
+     * as Redis is briefly unavailable, is retried with exponential backoff, up to
+     * {@link #DEFAULT_INDEX_INITIALIZATION_ATTEMPTS} times, before it is reported as failed. Without an executor the
+     * initialization runs once on the calling thread, and its failure is thrown.
+     */
+    protected void initializeIndex(Executor executor, Runnable initialization) {
+
+        initializeIndex(executor, DEFAULT_INDEX_INITIALIZATION_ATTEMPTS, DEFAULT_INDEX_INITIALIZATION_BACKOFF, initialization);
+    }
+
+    /**
+     * @param backoff the delay before the first retry, doubled for every further retry
+     */
+    protected void initializeIndex(Executor executor, int maxAttempts, Duration backoff, Runnable initialization) {
+
+        if (executor == null) {
+            initialization.run();
+            return;
+        }
+        CompletableFuture<Void> initializationResult = new CompletableFuture<>();
+        indexInitialization = initializationResult;
+        attemptIndexInitialization(executor, initialization, 1, maxAttempts, backoff, initializationResult);
+    }
+
+    private void attemptIndexInitialization(Executor executor,
+                                            Runnable initialization,
+                                            int attempt,
+                                            int maxAttempts,
+                                            Duration backoff,
+                                            CompletableFuture<Void> initializationResult) {
+
+        CompletableFuture<Void> attemptResult;
+        synchronized (indexInitializationLock) {
+            //cancelled by recreateIndex()
+            if (initializationResult.isDone()) {
+                return;
+            }
+            try {
+                attemptResult = CompletableFuture.runAsync(initialization, executor);
+            } catch (RuntimeException e) {
+                initializationResult.completeExceptionally(e);
+                return;
+            }
+            indexInitializationAttempt = attemptResult;
+        }
+        attemptResult.whenComplete((result, throwable) -> {
+            if (initializationResult.isDone()) {
+                return;
+            }
+            if (throwable == null) {
+                initializationResult.complete(null);
+                return;
+            }
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (attempt >= maxAttempts) {
+                logger.error("Error initializing RediSearch index: " + index, cause);
+                initializationResult.completeExceptionally(cause);
+                return;
+            }
+            long delayMillis = backoff.toMillis() << (attempt - 1);
+            logger.warn("Error initializing RediSearch index: {}, attempt {} of {}, retrying in {}ms. {}", index, attempt, maxAttempts, delayMillis, cause.getMessage());
+            CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS)
+                    .execute(() -> attemptIndexInitialization(executor, initialization, attempt + 1, maxAttempts, backoff, initializationResult));
+        });
+    }
+
+    @Override
+    public boolean isIndexReady() {
+
+        CompletableFuture<Void> initialization = indexInitialization;
+        return initialization.isDone() && !initialization.isCompletedExceptionally();
+    }
+
+    @Override
+    public Optional<Throwable> getIndexInitializationFailure() {
+
+        try {
+            indexInitialization.getNow(null);
+            return Optional.empty();
+        } catch (CompletionException e) {
+            return Optional.of(e.getCause());
+        } catch (CancellationException e) {
+            return Optional.of(e);
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> getIndexInitialization() {
+
+        return indexInitialization.minimalCompletionStage();
+    }
+
+    /**
+     * Cancels any further attempt of a pending index initialization, and waits for the running one, so it can not
+     * initialize the index concurrently
+     */
+    private void awaitIndexInitializationAttempt() {
+
+        CompletableFuture<Void> attempt;
+        synchronized (indexInitializationLock) {
+            indexInitialization.cancel(false);
+            attempt = indexInitializationAttempt;
+        }
+        if (attempt == null) {
+            return;
+        }
+        try {
+            attempt.join();
+        } catch (CompletionException | CancellationException e) {
+            //the index is recreated regardless
+        }
+    }
+
+    /**
+     * Loads the current compression dictionary when the entity is configured for {@link CompressionType#ZSTD_DICTIONARY}
+     */
+    protected void initCompressionDictionary(CompressionDictionaryStore compressionDictionaryStore) {
+
+        getDictionaryCompressionCodec().ifPresent(codec -> {
+            if (compressionDictionaryStore == null) {
+                logger.warn("No compression dictionary store available for index: {}. Documents will be compressed without a dictionary.", index);
+                return;
+            }
+            codec.setDictionaryStore(compressionDictionaryStore);
+            codec.loadCurrentDictionary();
+        });
+    }
+
+    private Optional<CompressingJacksonSerializer<E>> getCompressingJacksonSerializer() {
+
+        return Optional.of(redisSerializer)
+                .filter(CompressingJacksonSerializer.class::isInstance)
+                .map(serializer -> (CompressingJacksonSerializer<E>) serializer);
+    }
+
+    private Optional<ZstdDictionaryCompressionCodec> getDictionaryCompressionCodec() {
+
+        return getCompressingJacksonSerializer()
+                .map(CompressingJacksonSerializer::getCompressionCodec)
+                .filter(ZstdDictionaryCompressionCodec.class::isInstance)
+                .map(ZstdDictionaryCompressionCodec.class::cast);
+    }
+
+    @Override
+    public int trainCompressionDictionary(int sampleSize, int maxDictionarySize) {
+
+        ZstdDictionaryCompressionCodec codec = getDictionaryCompressionCodec()
+                .orElseThrow(() -> new IllegalStateException(format("Index '%s' is not configured for %s compression", index, CompressionType.ZSTD_DICTIONARY)));
+        CompressingJacksonSerializer<?> serializer = (CompressingJacksonSerializer<?>) redisSerializer;
+
+        return performTimedOperation("trainCompressionDictionary", () -> {
+            List<byte[]> samples;
+            try (Stream<PagedSearchResult<E>> resultStream = findAll(sampleSize).resultStream()) {
+                samples = resultStream
+                        .map(PagedSearchResult::getResult)
+                        .flatMap(Optional::stream)
+                        .map(serializer::serializeUncompressed)
+                        .collect(toList());
+            }
+            return codec.trainDictionary(samples, maxDictionarySize);
+        });
+    }
+
     protected abstract T createSearchableField(RediSearchFieldType type,
                                                String name,
                                                boolean sortable,
@@ -82,22 +275,8 @@ public abstract class AbstractRediSearchClient<E extends RedisSearchableEntity,
 
     private T createSearchableField(Field field, RediSearchField annotation) {
 
-        return createSearchableField(annotation.type(), annotation.name(), annotation.sortable(), e -> getFieldValue(field, e));
-    }
-
-    private String getFieldValue(Field f, E obj) {
-
-        try {
-            boolean accessible = f.isAccessible();
-
-            f.setAccessible(true);
-            Object o = f.get(obj);
-            f.setAccessible(accessible);
-
-            return getSerializedObjectValue(o);
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(format("Unable to get RediSearch annotated entity value for entity: %s of class: %s", f.getName(), obj.getClass()), e);
-        }
+        Function<E, Object> accessor = FieldAccessors.forField(field);
+        return createSearchableField(annotation.type(), annotation.name(), annotation.sortable(), e -> getSerializedObjectValue(accessor.apply(e)));
     }
 
     private List<T> getSearchFieldsFromMethods(Class<E> clazz) {
@@ -114,33 +293,30 @@ public abstract class AbstractRediSearchClient<E extends RedisSearchableEntity,
 
     private T createSearchableField(Method method, RediSearchField annotation) {
 
-        return createSearchableField(annotation.type(), annotation.name(), annotation.sortable(), e -> getFieldValue(method, e));
+        Function<E, Object> accessor = FieldAccessors.forMethod(method);
+        return createSearchableField(annotation.type(), annotation.name(), annotation.sortable(), e -> getSerializedObjectValue(accessor.apply(e)));
     }
 
-    private String getFieldValue(Method method, E obj) {
-
-        try {
-            Object o = method.invoke(obj, (Object[]) null);
-            return getSerializedObjectValue(o);
-        } catch (Exception ex) {
-            throw new RuntimeException(String.format("cannot invoke method:%s on %s", method.getName(), obj.getClass()), ex);
-        }
-    }
-
-    @SuppressWarnings("unchecked")
     private String getSerializedObjectValue(Object o) {
 
         if (o == null) {
             return null;
         }
-        if (!Collection.class.isAssignableFrom(o.getClass())) {
+        if (!(o instanceof Collection)) {
             return QueryField.escapeSpecialCharacters(o.toString());
         }
-        return (String) ((Collection) o).stream()
-                .filter(Objects::nonNull)
-                .map(Object::toString)
-                .map(s -> QueryField.escapeSpecialCharacters((String)s))
-                .collect(joining(","));
+        StringBuilder sb = new StringBuilder();
+        boolean first = true;
+        for (Object value : (Collection<?>) o) {
+            if (value != null) {
+                if (!first) {
+                    sb.append(',');
+                }
+                QueryField.escapeSpecialCharacters(value.toString(), sb);
+                first = false;
+            }
+        }
+        return sb.toString();
     }
 
     protected List<T> getFields() {
@@ -168,47 +344,161 @@ public abstract class AbstractRediSearchClient<E extends RedisSearchableEntity,
         return serializedFields;
     }
 
+    protected SerializedDocument serializeDocument(E entity) {
+
+        return new SerializedDocument(entity.getPersistenceKey(), serialize(entity));
+    }
+
+    @Override
+    public BulkOperationResult saveAll(Collection<E> entities) {
+
+        return performTimedOperation("saveAll", () -> {
+            BulkOperationResult result = new BulkOperationResult();
+            forEachBatch(entities, batch -> {
+                List<SerializedDocument> documents = new ArrayList<>(batch.size());
+                for (E entity : batch) {
+                    try {
+                        documents.add(serializeDocument(entity));
+                    } catch (RuntimeException e) {
+                        result.recordFailure(entity.getPersistenceKey(), e);
+                    }
+                }
+                saveSerialized(documents, result);
+            });
+            return result;
+        });
+    }
+
+    /**
+     * Saves the documents in a single pipelined round trip, recording the outcome of each in the result
+     */
+    protected abstract void saveSerialized(List<SerializedDocument> documents, BulkOperationResult result);
+
+    /**
+     * Called before an ingestion starts its writers, so a client that pools its connections can grow the pool to let
+     * each writer save on its own connection
+     *
+     * @return the number of connections the writers can save on at once
+     */
+    protected int reserveWriteConnections(int writers) {
+
+        return writers;
+    }
+
+    @Override
+    public IngestionMetrics ingest(Iterator<E> entities, IngestionOptions options) {
+
+        return new IngestionPipeline<>(this, options).run(entities);
+    }
+
+    @Override
+    public IngestionMetrics ingest(Stream<E> entities, IngestionOptions options) {
+
+        try (entities) {
+            return ingest(entities.iterator(), options);
+        }
+    }
+
     @Override
     public void recreateIndex() {
 
+        awaitIndexInitializationAttempt();
         dropIndex();
         checkAndCreateIndex();
+        indexInitialization = CompletableFuture.completedFuture(null);
     }
 
     @Override
     public Long getKeyCount() {
 
-        return performTimedOperation("keyCount", () -> {
-            SearchContext searchContext = SearchContext.builder().offset(0).limit(0).noContent(true).build();
-            SearchResults<E> searchResults = search(ALL_QUERY, searchContext);
-            return searchResults.getTotalResults();
-        });
+        return performTimedOperation("keyCount", () -> countMatches(ALL_QUERY));
     }
 
+    /**
+     * Counts every match of the context's query fields, regardless of its offset and limit
+     */
     @Override
     public Long getKeyCount(PagingSearchContext<E> pagingSearchContext) {
 
-        AtomicLong count = new AtomicLong();
-        search(pagingSearchContext).resultStream().forEach(r -> count.incrementAndGet());
-        return count.get();
+        return performTimedOperation("keyCount", () -> {
+            String queryString = buildQueryString(pagingSearchContext);
+            return countMatches(queryString.isEmpty() ? ALL_QUERY : queryString);
+        });
+    }
+
+    /**
+     * Reads only the total of an FT.SEARCH with LIMIT 0 0, so no documents are transferred
+     */
+    private Long countMatches(String queryString) {
+
+        SearchContext<E> searchContext = SearchContext.<E>builder().offset(0).limit(0).noContent(true).build();
+        return search(queryString, searchContext).getTotalResults();
     }
 
     @Override
     public List<E> deserialize(SearchResults<E> searchResults) {
 
+        return deserializeDocuments(searchResults, this::deserializeDocument);
+    }
+
+    public E deserialize(Map<String, Object> fields) {
+
+        return deserializeDocument(fields.get(SERIALIZED_DOCUMENT));
+    }
+
+    /**
+     * The serialized document is a byte[], or the entity itself when the client's codec decodes documents as they are
+     * read from the connection.
+     */
+    protected E deserializeDocument(Object serializedDocument) {
+
+        if (serializedDocument instanceof byte[]) {
+            return redisSerializer.deserialize((byte[]) serializedDocument);
+        }
+        return clazz.cast(serializedDocument);
+    }
+
+    @Override
+    public <P> List<P> deserialize(SearchResults<E> searchResults, Class<P> projectionType) {
+
+        return deserializeDocuments(searchResults, document -> deserialize(document, projectionType));
+    }
+
+    @Override
+    public List<Map<String, JsonNode>> deserialize(SearchResults<E> searchResults, Collection<String> paths) {
+
+        CompressingJacksonSerializer<E> serializer = requireCompressingJacksonSerializer();
+        DocumentProjection documentProjection = new DocumentProjection(paths);
+        return deserializeDocuments(searchResults, document -> document instanceof byte[] ?
+                serializer.deserialize((byte[]) document, documentProjection) :
+                serializer.project(clazz.cast(document), documentProjection));
+    }
+
+    private <R> List<R> deserializeDocuments(SearchResults<E> searchResults, Function<Object, R> deserializer) {
+
         return ofNullable(searchResults)
                 .map(SearchResults::getResults)
                 .map(results -> results.stream()
-                        .map(searchResult -> (byte[]) searchResult.getField(SERIALIZED_DOCUMENT))
+                        .map(searchResult -> searchResult.getField(SERIALIZED_DOCUMENT))
                         .filter(Objects::nonNull)
-                        .map(redisSerializer::deserialize)
+                        .map(deserializer)
                         .collect(toList()))
                 .orElseGet(Collections::emptyList);
     }
 
-    public E deserialize(Map<String, Object> fields) {
+    protected <P> P deserialize(Object serializedDocument, Class<P> projectionType) {
+
+        CompressingJacksonSerializer<E> serializer = requireCompressingJacksonSerializer();
+        if (serializedDocument instanceof byte[]) {
+            return serializer.deserialize((byte[]) serializedDocument, projectionType);
+        }
+        return serializer.project(clazz.cast(serializedDocument), projectionType);
+    }
+
+    private CompressingJacksonSerializer<E> requireCompressingJacksonSerializer() {
 
-        return redisSerializer.deserialize((byte[]) fields.get(SERIALIZED_DOCUMENT));
+        return getCompressingJacksonSerializer()
+                .orElseThrow(() -> new IllegalStateException(format("Projections require a %s for index: %s", CompressingJacksonSerializer.class.getSimpleName(), index)));
     }
 
     /**
@@ -288,6 +578,131 @@ public abstract class AbstractRediSearchClient<E extends RedisSearchableEntity,
     protected abstract PageableSearchResults<E> clientSidePagingSearch(String queryString, PagingSearchContext<E> pagingSearchContext);
     protected abstract PageableSearchResults<E> aggregateSearch(String queryString, PagingSearchContext<E> searchContext);
 
+    /**
+     * The number of commands pipelined per round trip by {@link #saveAll(Collection)} and {@link #deleteAll(Collection)}
+     */
+    public void setBulkBatchSize(int bulkBatchSize) {
+
+        if (bulkBatchSize < 1) {
+            throw new IllegalArgumentException("bulkBatchSize must be positive: " + bulkBatchSize);
+        }
+        this.bulkBatchSize = bulkBatchSize;
+    }
+
+    /**
+     * Caches the results of {@link #find(SearchContext)}. Writes through this client invalidate the cache, and are
+     * published on the invalidation channel, when given, to invalidate the caches of the other clients of the index.
+     */
+    public void enableQueryResultCache(int maxSize, Duration ttl, CacheInvalidationChannel invalidationChannel) {
+
+        QueryResultCache<SearchResults<E>> cache = new QueryResultCache<>(maxSize, ttl);
+        if (invalidationChannel != null) {
+            invalidationChannel.subscribe(message -> {
+                if (!instanceId.equals(message)) {
+                    cache.invalidate();
+                }
+            });
+        }
+        setCacheInvalidationChannel(invalidationChannel);
+        this.queryResultCache = cache;
+    }
+
+    /**
+     * Publishes the writes through this client on the invalidation channel, to invalidate the query result caches of
+     * the other clients of the index, without caching query results itself, ex: for an ingestion job.
+     */
+    public void publishCacheInvalidations(CacheInvalidationChannel invalidationChannel) {
+
+        setCacheInvalidationChannel(invalidationChannel);
+    }
+
+    private synchronized void setCacheInvalidationChannel(CacheInvalidationChannel invalidationChannel) {
+
+        CacheInvalidationChannel previous = cacheInvalidationChannel;
+        cacheInvalidationChannel = invalidationChannel;
+        if (previous != null && previous != invalidationChannel) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Drops the query result cache and closes its invalidation channel, so writes are no longer published either
+     */
+    public void disableQueryResultCache() {
+
+        queryResultCache = null;
+        setCacheInvalidationChannel(null);
+    }
+
+    public Optional<QueryResultCache<SearchResults<E>>> getQueryResultCache() {
+
+        return ofNullable(queryResultCache);
+    }
+
+    protected SearchResults<E> find(SearchContext<E> searchContext, Supplier<SearchResults<E>> search) {
+
+        QueryResultCache<SearchResults<E>> cache = queryResultCache;
+        return cache == null ? search.get() : cache.get(getQueryCacheKey(searchContext), search);
+    }
+
+    protected CompletableFuture<SearchResults<E>> findAsync(SearchContext<E> searchContext, Supplier<CompletableFuture<SearchResults<E>>> search) {
+
+        QueryResultCache<SearchResults<E>> cache = queryResultCache;
+        return cache == null ? search.get() : cache.getAsync(getQueryCacheKey(searchContext), search);
+    }
+
+    /**
+     * The query fields are intersected, so their order does not change the results
+     */
+    private String getQueryCacheKey(SearchContext<E> searchContext) {
+
+        StringBuilder sb = new StringBuilder();
+        searchContext.getQueryFields().stream()
+                .map(queryField -> '@' + queryField.getName() + ':' + queryField.getQuerySyntax())
+                .sorted()
+                .forEach(clause -> sb.append(clause).append(' '));
+        return sb.append("|sortBy=").append(searchContext.getSortBy())
+                .append("|ascending=").append(searchContext.isSortAscending())
+                .append("|offset=").append(searchContext.getOffset())
+                .append("|limit=").append(searchContext.getLimit())
+                .append("|noContent=").append(searchContext.isNoContent())
+                .toString();
+    }
+
+    /**
+     * Called after every write to the index, publishing it to the other clients even if this one does not cache
+     */
+    protected void invalidateQueryResultCache() {
+
+        QueryResultCache<SearchResults<E>> cache = queryResultCache;
+        if (cache != null) {
+            cache.invalidate();
+        }
+        CacheInvalidationChannel invalidationChannel = cacheInvalidationChannel;
+        if (invalidationChannel != null) {
+            try {
+                invalidationChannel.publish(instanceId);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to publish query cache invalidation for index: {}", index, e);
+            }
+        }
+    }
+
+    protected <I> void forEachBatch(Collection<I> items, Consumer<List<I>> batchConsumer) {
+
+        List<I> batch = new ArrayList<>(Math.min(items.size(), bulkBatchSize));
+        for (I item : items) {
+            batch.add(item);
+            if (batch.size() == bulkBatchSize) {
+                batchConsumer.accept(batch);
+                batch = new ArrayList<>(bulkBatchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+    }
+
     protected String getQualifiedKey(String key) {
 
         return keyPrefix + key;
@@ -295,11 +710,10 @@ public abstract class AbstractRediSearchClient<E extends RedisSearchableEntity,
 
     protected String buildQueryString(SearchContext<E> searchContext) {
 
-        List<QueryField<E>> queryFields = searchContext.getQueryFields();
         StringBuilder sb = new StringBuilder();
-        queryFields.stream()
-                .map(queryField -> format("@%s:%s", queryField.getName(), queryField.getQuerySyntax()))
-                .forEach(sb::append);
+        for (QueryField<E> queryField : searchContext.getQueryFields()) {
+            queryField.appendQuerySyntax(sb.append('@').append(queryField.getName()).append(':'));
+        }
         return sb.toString();
     }
 
@@ -0,0 +1,33 @@
+package com.rnbwarden.redisearch.client;
+
+import com.rnbwarden.redisearch.client.context.PagingSearchContext;
+import com.rnbwarden.redisearch.client.context.SearchContext;
+import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link RediSearchClient}. Commands are sent without blocking the calling thread and
+ * documents are serialized and deserialized on the client's executor. Lookups and searches use the client's near cache,
+ * Bloom filter and query result cache, where enabled, as the blocking methods do.
+ */
+public interface AsyncRediSearchClient<E extends RedisSearchableEntity> {
+
+    CompletableFuture<Void> save(E entity);
+
+    CompletableFuture<Void> delete(String key);
+
+    CompletableFuture<Optional<E>> findByKey(String key);
+
+    CompletableFuture<List<E>> findByKeys(Collection<String> keys);
+
+    CompletableFuture<SearchResults<E>> find(SearchContext<E> searchContext);
+
+    /**
+     * Completes once the first page has been read; further pages are read as the results are iterated.
+     */
+    CompletableFuture<PageableSearchResults<E>> search(PagingSearchContext<E> pagingSearchContext);
+}
@@ -0,0 +1,50 @@
+package com.rnbwarden.redisearch.client;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk save or delete. A failed item does not abort the rest of the batch; its exception is recorded
+ * against its (unqualified) key instead.
+ */
+public class BulkOperationResult {
+
+    private int successCount;
+    private final Map<String, Exception> failures = new LinkedHashMap<>();
+
+    public void recordSuccess() {
+
+        successCount++;
+    }
+
+    public void recordFailure(String key, Exception exception) {
+
+        failures.put(key, exception);
+    }
+
+    /**
+     * @return the number of documents saved, or deleted. Deleting a key that does not exist is neither a success nor a
+     * failure.
+     */
+    public int getSuccessCount() {
+
+        return successCount;
+    }
+
+    public Map<String, Exception> getFailures() {
+
+        return Collections.unmodifiableMap(failures);
+    }
+
+    public boolean hasFailures() {
+
+        return !failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+
+        return "BulkOperationResult{successCount=" + successCount + ", failures=" + failures.keySet() + '}';
+    }
+}
@@ -0,0 +1,127 @@
+package com.rnbwarden.redisearch.client;
+
+import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Streams the hits of a client-side paging search, resolving their documents a chunk at a time. The first
+ * {@link PagedSearchResult#getResult()} of a chunk reads every document of the chunk in a single multi-get, rather than
+ * one round trip per hit; callers only interested in the keys read no documents at all.
+ */
+public final class ChunkedPagedSearchResults {
+
+    private ChunkedPagedSearchResults() {
+
+    }
+
+    /**
+     * @param qualifiedKeys     the keys of the hits, in order
+     * @param keyFunction       maps a qualified key to the key exposed by {@link PagedSearchResult#getKey()}
+     * @param multiGet          reads the serialized documents of the given qualified keys, with null for any missing
+     * @param exceptionConsumer notified when a chunk can not be read or a document deserialized, whose results are then
+     *                          empty
+     */
+    public static <E extends RedisSearchableEntity> Stream<PagedSearchResult<E>> stream(List<String> qualifiedKeys,
+                                                                                      int chunkSize,
+                                                                                      boolean parallel,
+                                                                                      Function<String, String> keyFunction,
+                                                                                      Function<String[], List<Object>> multiGet,
+                                                                                      Function<Object, E> deserializer,
+                                                                                      Consumer<Exception> exceptionConsumer) {
+
+        int chunks = (qualifiedKeys.size() + chunkSize - 1) / chunkSize;
+        IntStream chunkIndexes = IntStream.range(0, chunks);
+        return (parallel ? chunkIndexes.parallel() : chunkIndexes)
+                .mapToObj(chunkIndex -> {
+                    int from = chunkIndex * chunkSize;
+                    int to = Math.min(from + chunkSize, qualifiedKeys.size());
+                    return new Chunk<>(qualifiedKeys.subList(from, to), multiGet, deserializer, exceptionConsumer);
+                })
+                .flatMap(chunk -> chunk.results(keyFunction));
+    }
+
+    private static class Chunk<E extends RedisSearchableEntity> {
+
+        private final List<String> qualifiedKeys;
+        private final Function<String[], List<Object>> multiGet;
+        private final Function<Object, E> deserializer;
+        private final Consumer<Exception> exceptionConsumer;
+        private List<Object> serializedDocuments;
+
+        Chunk(List<String> qualifiedKeys,
+              Function<String[], List<Object>> multiGet,
+              Function<Object, E> deserializer,
+              Consumer<Exception> exceptionConsumer) {
+
+            this.qualifiedKeys = qualifiedKeys;
+            this.multiGet = multiGet;
+            this.deserializer = deserializer;
+            this.exceptionConsumer = exceptionConsumer;
+        }
+
+        Stream<PagedSearchResult<E>> results(Function<String, String> keyFunction) {
+
+            List<PagedSearchResult<E>> results = new ArrayList<>(qualifiedKeys.size());
+            for (int i = 0; i < qualifiedKeys.size(); i++) {
+                results.add(new ChunkedPagedSearchResult<>(keyFunction.apply(qualifiedKeys.get(i)), this, i));
+            }
+            return results.stream();
+        }
+
+        Optional<E> get(int index) {
+
+            try {
+                Object serializedDocument = getSerializedDocument(index);
+                return serializedDocument == null ? Optional.empty() : Optional.of(deserializer.apply(serializedDocument));
+            } catch (Exception e) {
+                if (exceptionConsumer != null) {
+                    exceptionConsumer.accept(e);
+                }
+                return Optional.empty();
+            }
+        }
+
+        private synchronized Object getSerializedDocument(int index) {
+
+            if (serializedDocuments == null) {
+                //a chunk that can not be read is reported once, leaving its other hits empty
+                serializedDocuments = List.of();
+                serializedDocuments = multiGet.apply(qualifiedKeys.toArray(new String[0]));
+            }
+            return index < serializedDocuments.size() ? serializedDocuments.get(index) : null;
+        }
+    }
+
+    private static class ChunkedPagedSearchResult<E extends RedisSearchableEntity> implements PagedSearchResult<E> {
+
+        private final String key;
+        private final Chunk<E> chunk;
+        private final int index;
+
+        ChunkedPagedSearchResult(String key, Chunk<E> chunk, int index) {
+
+            this.key = key;
+            this.chunk = chunk;
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+
+            return key;
+        }
+
+        @Override
+        public Optional<E> getResult() {
+
+            return chunk.get(index);
+        }
+    }
+}
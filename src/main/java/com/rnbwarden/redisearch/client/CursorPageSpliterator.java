@@ -0,0 +1,120 @@
+package com.rnbwarden.redisearch.client;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator over the results of a cursor, whose unit of work is a page. Each {@link #trySplit()} hands off a whole
+ * page, so a parallel stream deserializes and consumes pages on its workers while the splitting thread reads the next
+ * one. The split-off pages are independent of the cursor, so only this spliterator reads it; as the stream framework
+ * confines a spliterator to one thread at a time, no locking is needed.
+ *
+ * @param <P> the cursor page
+ * @param <T> the result
+ */
+public class CursorPageSpliterator<P, T> implements Spliterator<T> {
+
+    private final PrefetchingPageReader<P> pageReader;
+    private final Function<P, List<T>> pageResults;
+    private List<T> page;
+    private int index;
+    private long estimatedSize;
+    private boolean exhausted;
+
+    /**
+     * @param estimatedSize the total number of results, if known, or Long.MAX_VALUE
+     */
+    public CursorPageSpliterator(List<T> firstPage,
+                                 PrefetchingPageReader<P> pageReader,
+                                 Function<P, List<T>> pageResults,
+                                 long estimatedSize) {
+
+        this.page = firstPage == null ? Collections.emptyList() : firstPage;
+        this.pageReader = pageReader;
+        this.pageResults = pageResults;
+        this.estimatedSize = Math.max(estimatedSize, this.page.size());
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+
+        while (index >= page.size()) {
+            if (!readPage()) {
+                return false;
+            }
+        }
+        action.accept(page.get(index++));
+        consumed(1);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+
+        do {
+            int start = index;
+            for (; index < page.size(); index++) {
+                action.accept(page.get(index));
+            }
+            consumed(index - start);
+        } while (readPage());
+    }
+
+    /**
+     * @return the unconsumed remainder of the current page or else the next page, or null once the cursor is exhausted
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+
+        if (index >= page.size() && !readPage()) {
+            return null;
+        }
+        List<T> split = page.subList(index, page.size());
+        page = Collections.emptyList();
+        index = 0;
+        consumed(split.size());
+        return split.spliterator();
+    }
+
+    private boolean readPage() {
+
+        if (exhausted) {
+            return false;
+        }
+        P nextPage = pageReader.next();
+        List<T> results = nextPage == null ? null : pageResults.apply(nextPage);
+        if (results == null || results.isEmpty()) {
+            exhausted = true;
+            estimatedSize = 0;
+            page = Collections.emptyList();
+            index = 0;
+            return false;
+        }
+        page = results;
+        index = 0;
+        estimatedSize = Math.max(estimatedSize, results.size());
+        return true;
+    }
+
+    private void consumed(long count) {
+
+        if (estimatedSize != Long.MAX_VALUE) {
+            estimatedSize = Math.max(estimatedSize - count, page.size() - index);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+
+        return estimatedSize;
+    }
+
+    @Override
+    public int characteristics() {
+
+        return ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,92 @@
+package com.rnbwarden.redisearch.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Builds the accessors for RediSearch annotated fields and methods once, when the client is created, so that reading
+ * a field value while saving an entity is not a reflective call.
+ *
+ * Methods are bound with {@link LambdaMetafactory} and run at direct-call speed. Fields (which LambdaMetafactory
+ * cannot target) and methods it rejects use a {@link MethodHandle}.
+ */
+final class FieldAccessors {
+
+    private static final Logger logger = LoggerFactory.getLogger(FieldAccessors.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private FieldAccessors() {
+    }
+
+    static <E> Function<E, Object> forField(Field field) {
+
+        try {
+            MethodHandle getter = lookup(field.getDeclaringClass()).unreflectGetter(field).asType(GETTER_TYPE);
+            return entity -> invoke(getter, entity);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(format("Unable to access RediSearch annotated field: %s of class: %s", field.getName(), field.getDeclaringClass()), e);
+        }
+    }
+
+    static <E> Function<E, Object> forMethod(Method method) {
+
+        MethodHandles.Lookup lookup;
+        MethodHandle getter;
+        try {
+            lookup = lookup(method.getDeclaringClass());
+            getter = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(format("Unable to access RediSearch annotated method: %s of class: %s", method.getName(), method.getDeclaringClass()), e);
+        }
+
+        try {
+            return createFunction(lookup, getter);
+        } catch (Throwable e) {
+            logger.debug("Falling back to a MethodHandle for RediSearch annotated method: {} of class: {}", method.getName(), method.getDeclaringClass(), e);
+            MethodHandle genericGetter = getter.asType(GETTER_TYPE);
+            return entity -> invoke(genericGetter, entity);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Function<E, Object> createFunction(MethodHandles.Lookup lookup, MethodHandle getter) throws Throwable {
+
+        MethodType getterType = getter.type();
+        CallSite callSite = LambdaMetafactory.metafactory(lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                GETTER_TYPE,
+                getter,
+                getterType.changeReturnType(getterType.returnType().isPrimitive() ?
+                        MethodType.methodType(getterType.returnType()).wrap().returnType() :
+                        getterType.returnType()));
+        return (Function<E, Object>) callSite.getTarget().invokeExact();
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> declaringClass) throws IllegalAccessException {
+
+        return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+    }
+
+    private static Object invoke(MethodHandle getter, Object entity) {
+
+        try {
+            return getter.invokeExact(entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
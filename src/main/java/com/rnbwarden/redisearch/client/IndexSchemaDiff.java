@@ -0,0 +1,142 @@
+package com.rnbwarden.redisearch.client;
+
+import com.rnbwarden.redisearch.entity.RediSearchFieldType;
+import com.rnbwarden.redisearch.entity.SearchableField;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static java.lang.String.format;
+
+/**
+ * The difference between the schema of an existing index, as reported by FT.INFO, and the searchable fields of its
+ * entity. Missing fields can be added with FT.ALTER; any other difference, such as a changed type or sortability, or a
+ * field no longer mapped, can not be applied without recreating the index, so is only reported as drift.
+ */
+public class IndexSchemaDiff {
+
+    private final List<String> missingFields = new ArrayList<>();
+    private final List<String> drift = new ArrayList<>();
+
+    private IndexSchemaDiff(String index, Map<String, IndexedField> indexedFields, Collection<? extends SearchableField<?>> fields) {
+
+        Set<String> mappedFields = new HashSet<>();
+        for (SearchableField<?> field : fields) {
+            mappedFields.add(field.getName());
+            IndexedField indexedField = indexedFields.get(field.getName());
+            if (indexedField == null) {
+                missingFields.add(field.getName());
+                continue;
+            }
+            RediSearchFieldType type = getType(field);
+            if (type != null && !type.name().equalsIgnoreCase(indexedField.type)) {
+                drift.add(format("field '%s' of index '%s' is %s but mapped as %s", field.getName(), index, indexedField.type, type));
+            }
+            if (field.isSortable() != indexedField.sortable) {
+                drift.add(format("field '%s' of index '%s' is %s but mapped as %s", field.getName(), index,
+                        sortability(indexedField.sortable), sortability(field.isSortable())));
+            }
+        }
+        indexedFields.keySet().stream()
+                .filter(name -> !mappedFields.contains(name))
+                .forEach(name -> drift.add(format("field '%s' of index '%s' is no longer mapped", name, index)));
+    }
+
+    /**
+     * @param infoReply the FT.INFO reply, as alternating names and values
+     */
+    public static IndexSchemaDiff of(String index, List<Object> infoReply, Collection<? extends SearchableField<?>> fields) {
+
+        Map<String, Object> info = new HashMap<>();
+        for (int i = 0; i + 1 < infoReply.size(); i += 2) {
+            info.put(text(infoReply.get(i)), infoReply.get(i + 1));
+        }
+        return of(index, info, fields);
+    }
+
+    public static IndexSchemaDiff of(String index, Map<String, Object> info, Collection<? extends SearchableField<?>> fields) {
+
+        Map<String, IndexedField> indexedFields = new LinkedHashMap<>();
+        Object fieldsReply = info.get("fields");
+        if (fieldsReply instanceof List) {
+            for (Object fieldReply : (List<?>) fieldsReply) {
+                if (fieldReply instanceof List) {
+                    IndexedField indexedField = new IndexedField((List<?>) fieldReply);
+                    indexedFields.put(indexedField.name, indexedField);
+                }
+            }
+        }
+        return new IndexSchemaDiff(index, indexedFields, fields);
+    }
+
+    /**
+     * @return the names of the mapped fields missing from the index, which can be added
+     */
+    public List<String> getMissingFields() {
+
+        return Collections.unmodifiableList(missingFields);
+    }
+
+    /**
+     * @return a description of each difference that can not be applied to the index
+     */
+    public List<String> getDrift() {
+
+        return Collections.unmodifiableList(drift);
+    }
+
+    private static RediSearchFieldType getType(SearchableField<?> field) {
+
+        if (field instanceof SearchableTagField) {
+            return RediSearchFieldType.TAG;
+        }
+        if (field instanceof SearchableTextField) {
+            return RediSearchFieldType.TEXT;
+        }
+        return null;
+    }
+
+    private static String sortability(boolean sortable) {
+
+        return sortable ? "sortable" : "not sortable";
+    }
+
+    private static String text(Object value) {
+
+        return value instanceof byte[] ? new String((byte[]) value, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    /**
+     * A field of the FT.INFO reply: [name, type, TEXT, WEIGHT, 1, SORTABLE], or from RediSearch 2, with the name
+     * following identifier and attribute: [identifier, name, attribute, name, type, TEXT, ...]
+     */
+    private static class IndexedField {
+
+        private static final Set<String> OPTIONS_WITH_VALUE = Set.of("IDENTIFIER", "ATTRIBUTE", "TYPE", "WEIGHT", "SEPARATOR", "PHONETIC");
+
+        private String name;
+        private String type;
+        private boolean sortable;
+
+        IndexedField(List<?> fieldReply) {
+
+            List<String> attributes = new ArrayList<>(fieldReply.size());
+            fieldReply.forEach(attribute -> attributes.add(text(attribute)));
+            name = attributes.isEmpty() ? "" : attributes.get(0);
+            int start = "identifier".equalsIgnoreCase(name) ? 0 : 1;
+            for (int i = start; i < attributes.size(); i++) {
+                String option = attributes.get(i).toUpperCase();
+                if (OPTIONS_WITH_VALUE.contains(option) && i + 1 < attributes.size()) {
+                    String value = attributes.get(++i);
+                    if ("ATTRIBUTE".equals(option)) {
+                        name = value;
+                    } else if ("TYPE".equals(option)) {
+                        type = value;
+                    }
+                } else if ("SORTABLE".equals(option)) {
+                    sortable = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.rnbwarden.redisearch.client;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counters of an ingestion. Every counter is updated as documents move through the stages, so the metrics can be
+ * read at any time while the ingestion runs.
+ */
+public class IngestionMetrics {
+
+    private final long startNanos = System.nanoTime();
+    private volatile long endNanos;
+    private final AtomicLong read = new AtomicLong();
+    private final AtomicLong serialized = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final BlockingQueue<?> serializationQueue;
+    private final BlockingQueue<?> writeQueue;
+
+    IngestionMetrics(BlockingQueue<?> serializationQueue, BlockingQueue<?> writeQueue) {
+
+        this.serializationQueue = serializationQueue;
+        this.writeQueue = writeQueue;
+    }
+
+    void recordRead() {
+
+        read.incrementAndGet();
+    }
+
+    void recordSerialized() {
+
+        serialized.incrementAndGet();
+    }
+
+    void recordWritten(long count) {
+
+        written.addAndGet(count);
+    }
+
+    void recordFailed() {
+
+        failed.incrementAndGet();
+    }
+
+    void complete() {
+
+        endNanos = System.nanoTime();
+    }
+
+    public long getRead() {
+
+        return read.get();
+    }
+
+    public long getSerialized() {
+
+        return serialized.get();
+    }
+
+    public long getWritten() {
+
+        return written.get();
+    }
+
+    public long getFailed() {
+
+        return failed.get();
+    }
+
+    /**
+     * @return the number of documents read from the source that have not yet been written or failed
+     */
+    public long getLag() {
+
+        return getRead() - getWritten() - getFailed();
+    }
+
+    public int getSerializationQueueDepth() {
+
+        return serializationQueue.size();
+    }
+
+    public int getWriteQueueDepth() {
+
+        return writeQueue.size();
+    }
+
+    public Duration getElapsed() {
+
+        long end = endNanos == 0 ? System.nanoTime() : endNanos;
+        return Duration.ofNanos(end - startNanos);
+    }
+
+    /**
+     * @return documents written per second since the ingestion started
+     */
+    public double getThroughput() {
+
+        long elapsedNanos = getElapsed().toNanos();
+        return elapsedNanos == 0 ? 0 : getWritten() * 1_000_000_000d / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("read=%d serialized=%d written=%d failed=%d lag=%d queued=%d/%d throughput=%.0f/s elapsed=%s",
+                getRead(), getSerialized(), getWritten(), getFailed(), getLag(),
+                getSerializationQueueDepth(), getWriteQueueDepth(), getThroughput(), getElapsed());
+    }
+}
@@ -0,0 +1,36 @@
+package com.rnbwarden.redisearch.client;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+@Data
+public class IngestionOptions {
+
+    /**
+     * Threads extracting fields and serializing (and compressing) documents
+     */
+    private int serializationThreads = Runtime.getRuntime().availableProcessors();
+    /**
+     * Threads, each writing pipelined batches on its own connection. A Lettuce client grows its connection pool to this
+     * size; with shared connections the writers instead multiplex over the shared stripes, so more writers than stripes
+     * only add threads. A Jedis client is bounded by the size of its Jedis pool.
+     */
+    private int writeConnections = 4;
+    private int batchSize = AbstractRediSearchClient.DEFAULT_BULK_BATCH_SIZE;
+    /**
+     * Capacity of each of the queues between the stages. Once a queue is full the stage feeding it blocks.
+     */
+    private int queueCapacity = 10000;
+    private Duration progressInterval = Duration.ofSeconds(10);
+    /**
+     * Called every progressInterval with the live metrics. Progress is logged when not set.
+     */
+    private Consumer<IngestionMetrics> progressListener;
+    /**
+     * Called with the key of each document that failed to serialize or save. Failures are logged when not set.
+     */
+    private BiConsumer<String, Exception> failureListener;
+}
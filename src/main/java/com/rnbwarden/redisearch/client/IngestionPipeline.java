@@ -0,0 +1,227 @@
+package com.rnbwarden.redisearch.client;
+
+import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Ingests entities in three stages connected by bounded queues:
+ * <ol>
+ * <li>the calling thread reads entities from the source</li>
+ * <li>serialization threads extract the searchable fields and serialize (and compress) the document</li>
+ * <li>write threads save pipelined batches, each on its own connection</li>
+ * </ol>
+ * A full queue blocks the stage feeding it, so a slow stage throttles the source rather than buffering it. If any worker
+ * fails, ex: a failure listener throws, the stages waiting on a full queue stop and the ingestion fails with its cause.
+ */
+class IngestionPipeline<E extends RedisSearchableEntity> {
+
+    private static final Logger logger = LoggerFactory.getLogger(IngestionPipeline.class);
+    /**
+     * Marks the end of a queue. Each worker puts it back on taking it, so one marker stops every worker of a stage.
+     */
+    private static final Object END = new Object();
+    private static final long FAILURE_CHECK_INTERVAL_MILLIS = 100;
+
+    private final AbstractRediSearchClient<E, ?> client;
+    private final IngestionOptions options;
+    private final BlockingQueue<Object> serializationQueue;
+    private final BlockingQueue<Object> writeQueue;
+    private final IngestionMetrics metrics;
+    private final AtomicReference<Throwable> workerFailure = new AtomicReference<>();
+
+    IngestionPipeline(AbstractRediSearchClient<E, ?> client, IngestionOptions options) {
+
+        this.client = client;
+        this.options = options;
+        this.serializationQueue = new ArrayBlockingQueue<>(options.getQueueCapacity());
+        this.writeQueue = new ArrayBlockingQueue<>(options.getQueueCapacity());
+        this.metrics = new IngestionMetrics(serializationQueue, writeQueue);
+    }
+
+    IngestionMetrics run(Iterator<E> entities) {
+
+        ExecutorService serializers = Executors.newFixedThreadPool(options.getSerializationThreads(), threadFactory("serializer"));
+        ExecutorService writers = Executors.newFixedThreadPool(options.getWriteConnections(), threadFactory("writer"));
+        ScheduledExecutorService progressReporter = Executors.newSingleThreadScheduledExecutor(threadFactory("progress"));
+        int connections = client.reserveWriteConnections(options.getWriteConnections());
+        if (connections < options.getWriteConnections()) {
+            logger.warn("Ingesting index: {} with {} writers sharing {} connections", client.index,
+                    options.getWriteConnections(), connections);
+        }
+        try {
+            List<Future<?>> serializerFutures = start(serializers, options.getSerializationThreads(), this::serialize);
+            List<Future<?>> writerFutures = start(writers, options.getWriteConnections(), this::write);
+            long progressInterval = options.getProgressInterval().toMillis();
+            progressReporter.scheduleAtFixedRate(this::reportProgress, progressInterval, progressInterval, TimeUnit.MILLISECONDS);
+
+            //if reading the source fails the workers are stopped below rather than drained, so only an exhausted source
+            //is marked with END
+            while (entities.hasNext()) {
+                metrics.recordRead();
+                put(serializationQueue, entities.next());
+            }
+            put(serializationQueue, END);
+            await(serializerFutures);
+            put(writeQueue, END);
+            await(writerFutures);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted ingesting index: " + client.index, e);
+        } finally {
+            metrics.complete();
+            progressReporter.shutdownNow();
+            serializers.shutdownNow();
+            writers.shutdownNow();
+        }
+        reportProgress();
+        return metrics;
+    }
+
+    private ThreadFactory threadFactory(String stage) {
+
+        String namePrefix = String.format("rediSearch-%s-ingest-%s-", client.index, stage);
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private List<Future<?>> start(ExecutorService executorService, int workers, Callable<Void> worker) {
+
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(executorService.submit(() -> {
+                try {
+                    return worker.call();
+                } catch (Throwable t) {
+                    workerFailure.compareAndSet(null, t);
+                    throw t;
+                }
+            }));
+        }
+        return futures;
+    }
+
+    private void await(List<Future<?>> futures) throws InterruptedException {
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                checkWorkers();
+                throw new IllegalStateException("Ingestion worker failed for index: " + client.index, e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Waits for space on the queue for as long as no worker has failed, as the workers of a failed stage would not
+     * take from it again
+     */
+    private void put(BlockingQueue<Object> queue, Object item) throws InterruptedException {
+
+        checkWorkers();
+        while (!queue.offer(item, FAILURE_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+            checkWorkers();
+        }
+    }
+
+    private void checkWorkers() {
+
+        Throwable failure = workerFailure.get();
+        if (failure != null) {
+            throw new IllegalStateException("Ingestion worker failed for index: " + client.index, failure);
+        }
+    }
+
+    private Void serialize() throws InterruptedException {
+
+        while (true) {
+            Object item = serializationQueue.take();
+            if (item == END) {
+                serializationQueue.put(END);
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            E entity = (E) item;
+            SerializedDocument document;
+            try {
+                document = client.serializeDocument(entity);
+                metrics.recordSerialized();
+            } catch (RuntimeException e) {
+                recordFailure(entity.getPersistenceKey(), e);
+                continue;
+            }
+            put(writeQueue, document);
+        }
+    }
+
+    private Void write() throws InterruptedException {
+
+        int batchSize = options.getBatchSize();
+        List<Object> drained = new ArrayList<>(batchSize);
+        boolean end = false;
+        while (!end) {
+            drained.add(writeQueue.take());
+            writeQueue.drainTo(drained, batchSize - 1);
+            List<SerializedDocument> batch = new ArrayList<>(drained.size());
+            for (Object item : drained) {
+                if (item == END) {
+                    end = true;
+                } else {
+                    batch.add((SerializedDocument) item);
+                }
+            }
+            drained.clear();
+            if (!batch.isEmpty()) {
+                save(batch);
+            }
+        }
+        writeQueue.put(END);
+        return null;
+    }
+
+    private void save(List<SerializedDocument> batch) {
+
+        BulkOperationResult result = new BulkOperationResult();
+        try {
+            client.saveSerialized(batch, result);
+        } catch (RuntimeException e) {
+            result = new BulkOperationResult();
+            for (SerializedDocument document : batch) {
+                result.recordFailure(document.getKey(), e);
+            }
+        }
+        metrics.recordWritten(result.getSuccessCount());
+        result.getFailures().forEach(this::recordFailure);
+    }
+
+    private void recordFailure(String key, Exception exception) {
+
+        metrics.recordFailed();
+        if (options.getFailureListener() != null) {
+            options.getFailureListener().accept(key, exception);
+        } else {
+            logger.warn("Failed to ingest key: {} into index: {}. {}", key, client.index, exception.getMessage());
+        }
+    }
+
+    private void reportProgress() {
+
+        if (options.getProgressListener() != null) {
+            options.getProgressListener().accept(metrics);
+        } else {
+            logger.info("Ingesting index: {} {}", client.index, metrics);
+        }
+    }
+}
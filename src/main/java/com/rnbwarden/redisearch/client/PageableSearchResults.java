@@ -25,7 +25,15 @@ public interface PageableSearchResults<E extends RedisSearchableEntity> {
         return useParallel ? parallelStream() : resultStream();
     }
 
+    /**
+     * The results are read page by page as the stream is consumed. A stream that is not consumed to the end, ex: with
+     * findFirst() or limit(), must be closed, ex: with try-with-resources, as a cursor based stream holds a connection
+     * until it is exhausted or closed.
+     */
     Stream<PagedSearchResult<E>> resultStream();
 
+    /**
+     * As {@link #resultStream()}, which must be closed as well
+     */
     Stream<PagedSearchResult<E>> parallelStream();
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.rnbwarden.redisearch.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Reads the pages of a cursor ahead of the consumer. Up to prefetchDepth pages are read while the current page is being
+ * consumed, so the consumer only waits for a round trip when it outpaces the reads. Reads of a cursor must not overlap,
+ * so each read is chained to complete after the previous one.
+ */
+public class PrefetchingPageReader<P> {
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "rediSearch-cursor-prefetch-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Supplier<P> nextPageSupplier;
+    private final Predicate<P> hasResults;
+    private final int prefetchDepth;
+    private final Deque<CompletableFuture<P>> prefetched = new ArrayDeque<>();
+    private CompletableFuture<P> lastRead;
+    private volatile boolean closed;
+
+    /**
+     * @param firstPage        the page already read, which is being consumed
+     * @param nextPageSupplier reads the next page; a null or empty page ends the cursor
+     * @param prefetchDepth    the number of pages to read ahead, or 0 to read each page only once it is needed
+     */
+    public PrefetchingPageReader(P firstPage, Supplier<P> nextPageSupplier, Predicate<P> hasResults, int prefetchDepth) {
+
+        this.nextPageSupplier = nextPageSupplier;
+        this.hasResults = page -> page != null && hasResults.test(page);
+        this.prefetchDepth = prefetchDepth;
+        this.lastRead = CompletableFuture.completedFuture(firstPage);
+        prefetch();
+    }
+
+    /**
+     * @return the next page, or null once the cursor is exhausted
+     */
+    public synchronized P next() {
+
+        if (prefetchDepth == 0) {
+            P page = lastRead.join();
+            lastRead = CompletableFuture.completedFuture(hasResults.test(page) ? nextPageSupplier.get() : null);
+            return lastRead.join();
+        }
+        CompletableFuture<P> nextPage = prefetched.poll();
+        prefetch();
+        try {
+            return nextPage.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void prefetch() {
+
+        while (prefetched.size() < prefetchDepth) {
+            lastRead = lastRead.thenApplyAsync(page -> hasResults.test(page) && !closed ? nextPageSupplier.get() : null, executor);
+            prefetched.add(lastRead);
+        }
+    }
+
+    /**
+     * Stops reading ahead. A read already in progress still completes.
+     */
+    public void close() {
+
+        closed = true;
+    }
+}
@@ -0,0 +1,18 @@
+package com.rnbwarden.redisearch.client;
+
+import com.rnbwarden.redisearch.client.context.PagingSearchContext;
+import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive counterpart of {@link RediSearchClient#search(PagingSearchContext)}
+ */
+public interface ReactiveRediSearchClient<E extends RedisSearchableEntity> {
+
+    /**
+     * Streams the results of an FT.AGGREGATE cursor. The next page is only read once the subscriber has requested the
+     * results of the previous one, so memory stays flat however many results match. Cancelling the subscription
+     * deletes the cursor.
+     */
+    Flux<E> search(PagingSearchContext<E> pagingSearchContext);
+}
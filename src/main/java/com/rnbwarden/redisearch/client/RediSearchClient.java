@@ -1,14 +1,18 @@
 package com.rnbwarden.redisearch.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.rnbwarden.redisearch.client.context.PagingSearchContext;
 import com.rnbwarden.redisearch.client.context.SearchContext;
 import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
 import com.rnbwarden.redisearch.entity.SearchableField;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 
 public interface RediSearchClient<E extends RedisSearchableEntity> {
 
@@ -18,6 +22,21 @@ public interface RediSearchClient<E extends RedisSearchableEntity> {
 
     void recreateIndex();
 
+    /**
+     * @return whether the index has been created, or its schema updated; until then operations on it may fail
+     */
+    boolean isIndexReady();
+
+    /**
+     * @return why the index could not be initialized, if it could not
+     */
+    Optional<Throwable> getIndexInitializationFailure();
+
+    /**
+     * @return completes once the index is ready, or exceptionally if it could not be initialized
+     */
+    CompletionStage<Void> getIndexInitialization();
+
     void dropIndex();
 
     Long getKeyCount();
@@ -28,8 +47,37 @@ public interface RediSearchClient<E extends RedisSearchableEntity> {
 
     void delete(String key);
 
+    /**
+     * Saves the entities in pipelined batches; failed entities are reported in the result rather than aborting the batch.
+     */
+    BulkOperationResult saveAll(Collection<E> entities);
+
+    /**
+     * Loads a large number of entities, such as for a reindex or backfill. Serialization runs in parallel with the
+     * writes, which are pipelined over several connections; see {@link IngestionOptions}. Blocks until every entity has
+     * been written or has failed.
+     *
+     * @return the final metrics; live metrics are passed to {@link IngestionOptions#getProgressListener()}
+     */
+    IngestionMetrics ingest(Iterator<E> entities, IngestionOptions options);
+
+    /**
+     * @see #ingest(Iterator, IngestionOptions)
+     */
+    IngestionMetrics ingest(Stream<E> entities, IngestionOptions options);
+
+    /**
+     * Deletes the keys in pipelined batches; failed keys are reported in the result rather than aborting the batch.
+     */
+    BulkOperationResult deleteAll(Collection<String> keys);
+
     Optional<E> findByKey(String key);
 
+    /**
+     * Reads only the properties of the given projection interface or DTO class from the stored document.
+     */
+    <P> Optional<P> findByKey(String key, Class<P> projectionType);
+
     default SearchResults<E> findByFields(Map<String, String> fieldNameValues) {
 
         return find(getSearchContextWithFields(fieldNameValues));
@@ -57,4 +105,20 @@ public interface RediSearchClient<E extends RedisSearchableEntity> {
     PageableSearchResults<E> findAll(PagingSearchContext<E> pagingSearchContext);
 
     List<E> deserialize(SearchResults<E> searchResults);
+
+    <P> List<P> deserialize(SearchResults<E> searchResults, Class<P> projectionType);
+
+    /**
+     * @param paths dot separated property paths, ex: 'brand' or 'metadata.color'
+     * @return for each result, the values found keyed by path
+     */
+    List<Map<String, JsonNode>> deserialize(SearchResults<E> searchResults, Collection<String> paths);
+
+    /**
+     * Trains a compression dictionary from up to sampleSize documents of the index, stores it in Redis as a new version
+     * and compresses subsequently saved documents with it. Requires the entity to use ZSTD_DICTIONARY compression.
+     *
+     * @return the new dictionary version
+     */
+    int trainCompressionDictionary(int sampleSize, int maxDictionarySize);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.rnbwarden.redisearch.client;
+
+import java.util.Map;
+
+/**
+ * An entity's searchable fields and serialized document, ready to be written to the index
+ */
+public class SerializedDocument {
+
+    private final String key;
+    private final Map<String, Object> fields;
+
+    public SerializedDocument(String key, Map<String, Object> fields) {
+
+        this.key = key;
+        this.fields = fields;
+    }
+
+    /**
+     * @return the unqualified persistence key
+     */
+    public String getKey() {
+
+        return key;
+    }
+
+    public Map<String, Object> getFields() {
+
+        return fields;
+    }
+}
@@ -0,0 +1,30 @@
+package com.rnbwarden.redisearch.client.cache;
+
+import java.io.Closeable;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+
+/**
+ * Redis pub/sub channel over which the clients of an index tell each other to invalidate their caches after a write.
+ *
+ * Messages published while a subscriber is disconnected are lost, so caches must still bound staleness with a TTL.
+ */
+public interface CacheInvalidationChannel extends Closeable {
+
+    void publish(String message);
+
+    /**
+     * Starts delivering the messages published by any client of the index, including this one, to the listener. A
+     * null message tells the listener that messages may have been missed while the subscription was lost.
+     */
+    void subscribe(Consumer<String> listener);
+
+    @Override
+    void close();
+
+    static String getChannel(String index) {
+
+        return format("%s.cache:invalidate", index);
+    }
+}
@@ -0,0 +1,89 @@
+package com.rnbwarden.redisearch.client.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of keys. {@link #mightContain(String)} never returns false for an added key, and returns true
+ * for a key that was not added with about the false positive probability the filter was sized for.
+ */
+public class KeyBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public KeyBloomFilter(long expectedKeys, double falsePositiveProbability) {
+
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1: " + falsePositiveProbability);
+        }
+        long keys = Math.max(expectedKeys, 1);
+        long optimalBits = (long) Math.ceil(-keys * Math.log(falsePositiveProbability) / (LN2 * LN2));
+        int words = (int) Math.min((optimalBits + 63) / 64, Integer.MAX_VALUE - 8);
+        this.bits = new AtomicLongArray(Math.max(words, 1));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / keys * LN2));
+    }
+
+    public void add(String key) {
+
+        long hash1 = hash(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((bits.get(word) & mask) == 0) {
+                bits.accumulateAndGet(word, mask, (current, added) -> current | added);
+            }
+        }
+    }
+
+    public boolean mightContain(String key) {
+
+        long hash1 = hash(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitCount() {
+
+        return bitCount;
+    }
+
+    public int getHashCount() {
+
+        return hashCount;
+    }
+
+    /**
+     * FNV-1a over the chars of the key, finalized with the MurmurHash3 mix so every bit depends on every char
+     */
+    private static long hash(String key) {
+
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
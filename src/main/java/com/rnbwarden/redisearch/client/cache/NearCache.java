@@ -0,0 +1,130 @@
+package com.rnbwarden.redisearch.client.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Size and TTL bounded local cache of entities by key, evicting the least recently used entry once full.
+ *
+ * Every invalidation bumps a version. A value read from Redis is only cached if no invalidation happened since the
+ * read was started, as returned by {@link #getVersion()}, so a read racing a write can never cache the value from before
+ * the write.
+ */
+public class NearCache<V> {
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Map<String, CachedValue<V>> entries;
+
+    public NearCache(int maxSize, Duration ttl) {
+
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    NearCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedValue<V>> eldest) {
+
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the cached value, or null if the key is not cached
+     */
+    public V get(String key) {
+
+        synchronized (entries) {
+            CachedValue<V> entry = entries.get(key);
+            if (entry != null) {
+                if (nanoClock.getAsLong() - entry.cachedAt < ttlNanos) {
+                    hits.incrementAndGet();
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Read before reading values from Redis and pass to {@link #put(String, Object, long)}
+     */
+    public long getVersion() {
+
+        return version.get();
+    }
+
+    /**
+     * Caches the value unless an invalidation happened since readVersion
+     */
+    public void put(String key, V value, long readVersion) {
+
+        synchronized (entries) {
+            if (value != null && version.get() == readVersion) {
+                entries.put(key, new CachedValue<>(value, nanoClock.getAsLong()));
+            }
+        }
+    }
+
+    public void invalidate(String key) {
+
+        synchronized (entries) {
+            version.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+
+        synchronized (entries) {
+            version.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public int size() {
+
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+
+        return hits.get();
+    }
+
+    public long getMissCount() {
+
+        return misses.get();
+    }
+
+    private static class CachedValue<V> {
+
+        private final V value;
+        private final long cachedAt;
+
+        CachedValue(V value, long cachedAt) {
+
+            this.value = value;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
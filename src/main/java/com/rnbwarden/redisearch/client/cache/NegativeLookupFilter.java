@@ -0,0 +1,150 @@
+package com.rnbwarden.redisearch.client.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Local {@link KeyBloomFilter} of the keys of an index, consulted before reading a key to skip the round trip for keys
+ * that definitely do not exist.
+ *
+ * A Bloom filter can not remove keys, so deleted keys are dropped by periodically rebuilding it from a scan of the
+ * index's keys. Keys added while a rebuild scans are also added to the filter being built, so none is lost by the swap.
+ * Until the first rebuild completes every key might exist.
+ */
+public class NegativeLookupFilter implements Closeable {
+
+    private final Logger logger = LoggerFactory.getLogger(NegativeLookupFilter.class);
+    private final String index;
+    private final long expectedKeys;
+    private final double falsePositiveProbability;
+    private final Consumer<Consumer<String>> keyScanner;
+    private final ScheduledExecutorService rebuilder;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final AtomicLong skippedLookups = new AtomicLong();
+    private volatile KeyBloomFilter filter;
+    private volatile KeyBloomFilter rebuilding;
+    private volatile long lastKeyCount;
+
+    /**
+     * @param keyScanner passes every key of the index to the given consumer
+     */
+    public NegativeLookupFilter(String index,
+                                long expectedKeys,
+                                double falsePositiveProbability,
+                                Duration rebuildInterval,
+                                Consumer<Consumer<String>> keyScanner) {
+
+        this.index = index;
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.keyScanner = keyScanner;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rediSearch-bloom-filter-" + index);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = rebuildInterval.toMillis();
+        rebuilder.scheduleWithFixedDelay(this::scheduleRebuild, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        scheduleRebuild();
+    }
+
+    /**
+     * @return false if the key definitely does not exist
+     */
+    public boolean mightContain(String key) {
+
+        KeyBloomFilter current = filter;
+        if (current == null || current.mightContain(key)) {
+            return true;
+        }
+        skippedLookups.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Called after a key is written
+     */
+    public void add(String key) {
+
+        //read before the filter, as a rebuild swaps the filter before clearing it
+        KeyBloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(key);
+        }
+        KeyBloomFilter current = filter;
+        if (current != null) {
+            current.add(key);
+        }
+    }
+
+    /**
+     * Rebuilds the filter in the background, coalescing requests made while a rebuild is pending
+     */
+    public void scheduleRebuild() {
+
+        if (rebuildPending.compareAndSet(false, true)) {
+            try {
+                rebuilder.execute(this::rebuildPending);
+            } catch (RejectedExecutionException e) {
+                rebuildPending.set(false);
+            }
+        }
+    }
+
+    private void rebuildPending() {
+
+        rebuildPending.set(false);
+        try {
+            rebuild();
+        } catch (Exception e) {
+            logger.warn("Failed to rebuild the Bloom filter of index: {}", index, e);
+        }
+    }
+
+    /**
+     * Sized for the larger of the expected keys and twice the keys found by the previous rebuild
+     */
+    void rebuild() {
+
+        KeyBloomFilter next = new KeyBloomFilter(Math.max(expectedKeys, lastKeyCount * 2), falsePositiveProbability);
+        rebuilding = next;
+        try {
+            AtomicLong keyCount = new AtomicLong();
+            keyScanner.accept(key -> {
+                next.add(key);
+                keyCount.incrementAndGet();
+            });
+            filter = next;
+            lastKeyCount = keyCount.get();
+            logger.debug("Rebuilt the Bloom filter of index: {} with {} keys", index, lastKeyCount);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    public boolean isReady() {
+
+        return filter != null;
+    }
+
+    public long getSkippedLookups() {
+
+        return skippedLookups.get();
+    }
+
+    @Override
+    public void close() {
+
+        rebuilder.shutdownNow();
+    }
+}
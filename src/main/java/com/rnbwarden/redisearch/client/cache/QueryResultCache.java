@@ -0,0 +1,150 @@
+package com.rnbwarden.redisearch.client.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Size and TTL bounded cache of query results, evicting the least recently used entry once full.
+ *
+ * Every invalidation bumps a generation counter. A result loaded while the generation changed is returned to its caller
+ * but not cached, so a query racing a write can never cache the results from before the write.
+ */
+public class QueryResultCache<R> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Map<String, CachedResult<R>> entries;
+
+    public QueryResultCache(int maxSize, Duration ttl) {
+
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    QueryResultCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult<R>> eldest) {
+
+                return size() > QueryResultCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the cached result of the query, or else the result of the loader, which is then cached
+     */
+    public R get(String key, Supplier<R> loader) {
+
+        long loadGeneration = generation.get();
+        R cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+        R result = loader.get();
+        putIfCurrent(key, result, loadGeneration);
+        return result;
+    }
+
+    /**
+     * As {@link #get(String, Supplier)}, for a loader completing asynchronously
+     */
+    public CompletableFuture<R> getAsync(String key, Supplier<CompletableFuture<R>> loader) {
+
+        long loadGeneration = generation.get();
+        R cached = getCached(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return loader.get().thenApply(result -> {
+            putIfCurrent(key, result, loadGeneration);
+            return result;
+        });
+    }
+
+    private R getCached(String key) {
+
+        synchronized (entries) {
+            CachedResult<R> entry = entries.get(key);
+            if (entry != null) {
+                if (nanoClock.getAsLong() - entry.loadedAt < ttlNanos) {
+                    hits.incrementAndGet();
+                    return entry.result;
+                }
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    private void putIfCurrent(String key, R result, long loadGeneration) {
+
+        synchronized (entries) {
+            if (result != null && generation.get() == loadGeneration) {
+                entries.put(key, new CachedResult<>(result, nanoClock.getAsLong()));
+            }
+        }
+    }
+
+    /**
+     * Drops every cached result, including those still being loaded
+     */
+    public void invalidate() {
+
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public long getGeneration() {
+
+        return generation.get();
+    }
+
+    public int size() {
+
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+
+        return hits.get();
+    }
+
+    public long getMissCount() {
+
+        return misses.get();
+    }
+
+    private static class CachedResult<R> {
+
+        private final R result;
+        private final long loadedAt;
+
+        CachedResult(R result, long loadedAt) {
+
+            this.result = result;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
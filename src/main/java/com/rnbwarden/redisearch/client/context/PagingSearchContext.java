@@ -11,5 +11,13 @@ public class PagingSearchContext<E> extends SearchContext<E> {
 
     private boolean useClientSidePaging = false;
     private long pageSize = 1000;
+    /**
+     * With client-side paging, the number of documents read per round trip as the results are iterated
+     */
+    private int chunkSize = 500;
+    /**
+     * With cursor paging, the number of pages read ahead while the current page is consumed. 0 disables read-ahead.
+     */
+    private int prefetchDepth = 1;
     private Consumer<Exception> exceptionHandler;
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.rnbwarden.redisearch.client.jedis;
+
+import com.rnbwarden.redisearch.client.cache.CacheInvalidationChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A Jedis subscription blocks its connection, so it runs on its own daemon thread. After the subscription is lost it
+ * is retried every second, and the listener is notified with a null message since invalidations may have been missed.
+ */
+public class JedisCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(JedisCacheInvalidationChannel.class);
+    private static final long RESUBSCRIBE_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(1);
+
+    private final byte[] channel;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private volatile boolean closed;
+    private volatile RedisConnection subscribeConnection;
+    private Thread subscriber;
+
+    public JedisCacheInvalidationChannel(String index, RedisConnectionFactory redisConnectionFactory) {
+
+        this.channel = CacheInvalidationChannel.getChannel(index).getBytes(StandardCharsets.UTF_8);
+        this.redisConnectionFactory = redisConnectionFactory;
+    }
+
+    @Override
+    public void publish(String message) {
+
+        RedisConnection connection = redisConnectionFactory.getConnection();
+        try {
+            connection.publish(channel, message.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<String> listener) {
+
+        if (subscriber != null) {
+            throw new IllegalStateException("Already subscribed to " + new String(channel, StandardCharsets.UTF_8));
+        }
+        subscriber = new Thread(() -> subscribeUntilClosed(listener), "rediSearch-cache-invalidation");
+        subscriber.setDaemon(true);
+        subscriber.start();
+    }
+
+    private void subscribeUntilClosed(Consumer<String> listener) {
+
+        boolean resubscribing = false;
+        while (!closed) {
+            try {
+                subscribeConnection = redisConnectionFactory.getConnection();
+                if (resubscribing) {
+                    listener.accept(null);
+                }
+                subscribeConnection.subscribe((message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)), channel);
+            } catch (Exception e) {
+                if (!closed) {
+                    logger.warn("Lost cache invalidation subscription: {}", e.getMessage());
+                }
+            } finally {
+                closeSubscribeConnection();
+            }
+            resubscribing = true;
+            sleepBeforeResubscribing();
+        }
+    }
+
+    private void sleepBeforeResubscribing() {
+
+        try {
+            Thread.sleep(RESUBSCRIBE_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closed = true;
+        }
+    }
+
+    private void closeSubscribeConnection() {
+
+        RedisConnection connection = subscribeConnection;
+        subscribeConnection = null;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (Exception e) {
+                logger.debug("Error closing cache invalidation subscription: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+
+        closed = true;
+        RedisConnection connection = subscribeConnection;
+        if (connection != null && connection.isSubscribed()) {
+            connection.getSubscription().unsubscribe();
+        }
+        if (subscriber != null) {
+            subscriber.interrupt();
+        }
+    }
+}
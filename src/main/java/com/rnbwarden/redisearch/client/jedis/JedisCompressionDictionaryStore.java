@@ -0,0 +1,61 @@
+package com.rnbwarden.redisearch.client.jedis;
+
+import com.rnbwarden.redisearch.compression.CompressionDictionaryStore;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import static com.rnbwarden.redisearch.compression.CompressionDictionaryStore.*;
+
+public class JedisCompressionDictionaryStore implements CompressionDictionaryStore {
+
+    private final String index;
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    public JedisCompressionDictionaryStore(String index, RedisConnectionFactory redisConnectionFactory) {
+
+        this.index = index;
+        this.redisConnectionFactory = redisConnectionFactory;
+    }
+
+    @Override
+    public Integer getCurrentVersion() {
+
+        byte[] version = execute(connection -> connection.get(toBytes(getCurrentVersionKey(index))));
+        return version == null ? null : Integer.valueOf(new String(version, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public byte[] getDictionary(int version) {
+
+        return execute(connection -> connection.get(toBytes(getDictionaryKey(index, version))));
+    }
+
+    @Override
+    public int saveDictionary(byte[] dictionary) {
+
+        return execute(connection -> {
+            int version = connection.incr(toBytes(getVersionSequenceKey(index))).intValue();
+            connection.set(toBytes(getDictionaryKey(index, version)), dictionary);
+            connection.set(toBytes(getCurrentVersionKey(index)), toBytes(String.valueOf(version)));
+            return version;
+        });
+    }
+
+    private <R> R execute(Function<RedisConnection, R> function) {
+
+        RedisConnection connection = redisConnectionFactory.getConnection();
+        try {
+            return function.apply(connection);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static byte[] toBytes(String value) {
+
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,15 +1,17 @@
 package com.rnbwarden.redisearch.client.jedis;
 
+import com.rnbwarden.redisearch.client.CursorPageSpliterator;
 import com.rnbwarden.redisearch.client.PageableSearchResults;
 import com.rnbwarden.redisearch.client.PagedSearchResult;
+import com.rnbwarden.redisearch.client.PrefetchingPageReader;
 import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
 import io.redisearch.AggregationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
-import java.util.*;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -22,23 +24,25 @@ public class JedisPagingCursorSearchResults<E extends RedisSearchableEntity> imp
 
     private final Logger logger = LoggerFactory.getLogger(JedisPagingCursorSearchResults.class.getName());
 
-    private AggregationResult delegate;
-    private final Supplier<AggregationResult> nextPageSupplier;
+    private final AggregationResult delegate;
     private final Function<Map<String, Object>, E> deserializeFunction;
     private final Closeable closeable;
-    private final ResultsIterator iterator;
+    private final PrefetchingPageReader<AggregationResult> pageReader;
+    private final CursorPageSpliterator<AggregationResult, Map<String, Object>> spliterator;
     private final Consumer<Exception> exceptionConsumer;
 
     JedisPagingCursorSearchResults(AggregationResult delegate,
                                    Supplier<AggregationResult> nextPageSupplier,
                                    Function<Map<String, Object>, E> deserializeFunction,
                                    Closeable closeable,
-                                   Consumer<Exception> exceptionConsumer) {
+                                   Consumer<Exception> exceptionConsumer,
+                                   int prefetchDepth) {
 
-        this.nextPageSupplier = nextPageSupplier;
+        this.delegate = delegate;
         this.deserializeFunction = deserializeFunction;
         this.closeable = closeable;
-        this.iterator = new ResultsIterator(delegate);
+        this.pageReader = new PrefetchingPageReader<>(delegate, nextPageSupplier, page -> page.getResults() != null && !page.getResults().isEmpty(), prefetchDepth);
+        this.spliterator = new CursorPageSpliterator<>(ofNullable(delegate).map(AggregationResult::getResults).orElse(null), pageReader, AggregationResult::getResults, getTotalResults());
         this.exceptionConsumer = exceptionConsumer;
     }
 
@@ -63,8 +67,7 @@ public class JedisPagingCursorSearchResults<E extends RedisSearchableEntity> imp
     @Override
     public synchronized Stream<PagedSearchResult<E>> getResultStream(boolean useParallel) {
 
-        return StreamSupport.stream(Spliterators.spliterator(iterator, getTotalResults(),
-                Spliterator.NONNULL | Spliterator.CONCURRENT | Spliterator.DISTINCT), useParallel)
+        return StreamSupport.stream(spliterator, useParallel)
                 .filter(Objects::nonNull)
                 .onClose(this::close)
                 .map(this::createSearchResult)
@@ -73,6 +76,7 @@ public class JedisPagingCursorSearchResults<E extends RedisSearchableEntity> imp
 
     private void close() {
 
+        pageReader.close();
         try {
             if (closeable != null) {
                 closeable.close();
@@ -96,42 +100,4 @@ public class JedisPagingCursorSearchResults<E extends RedisSearchableEntity> imp
             throw e;
         }
     }
-
-    class ResultsIterator implements Iterator<Map<String, Object>> {
-
-        private final Object lockObject = new Object();
-        private volatile boolean hasNext;
-        private volatile ConcurrentLinkedQueue<Map<String, Object>> results = new ConcurrentLinkedQueue<>();
-
-        ResultsIterator(AggregationResult delegate) {
-
-            populateResultsFromAggregateResults(delegate);
-        }
-
-        private void populateResultsFromAggregateResults(AggregationResult delegate) {
-
-            JedisPagingCursorSearchResults.this.delegate = delegate;
-            ofNullable(delegate).map(AggregationResult::getResults).ifPresent(this.results::addAll);
-            hasNext = !results.isEmpty();
-        }
-
-        @Override
-        public boolean hasNext() {
-
-            return hasNext;
-        }
-
-        @Override
-        public Map<String, Object> next() {
-
-            if (results.peek() != null) {
-                return results.poll();
-            }
-            synchronized (lockObject) {
-                populateResultsFromAggregateResults(nextPageSupplier.get());
-                hasNext = !results.isEmpty();
-            }
-            return results.poll();
-        }
-    }
 }
@@ -1,27 +1,37 @@
 package com.rnbwarden.redisearch.client.jedis;
 
+import com.rnbwarden.redisearch.client.ChunkedPagedSearchResults;
 import com.rnbwarden.redisearch.client.PageableSearchResults;
 import com.rnbwarden.redisearch.client.PagedSearchResult;
 import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
 import io.redisearch.Document;
 import io.redisearch.SearchResult;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class JedisPagingSearchResults<E extends RedisSearchableEntity> implements PageableSearchResults<E> {
 
     private final io.redisearch.SearchResult delegate;
-    private final JedisRediSearchClient<E> jedisRediSearchClient;
+    private final int chunkSize;
+    private final Function<String[], List<Object>> multiGet;
+    private final Function<Object, E> deserializer;
     private final Consumer<Exception> exceptionHandler;
 
     JedisPagingSearchResults(SearchResult delegate,
-                             JedisRediSearchClient<E> jedisRediSearchClient,
+                             int chunkSize,
+                             Function<String[], List<Object>> multiGet,
+                             Function<Object, E> deserializer,
                              Consumer<Exception> exceptionHandler) {
 
         this.delegate = delegate;
-        this.jedisRediSearchClient = jedisRediSearchClient;
+        this.chunkSize = chunkSize;
+        this.multiGet = multiGet;
+        this.deserializer = deserializer;
         this.exceptionHandler = exceptionHandler;
     }
 
@@ -34,24 +44,22 @@ public class JedisPagingSearchResults<E extends RedisSearchableEntity> implement
     @Override
     public Stream<PagedSearchResult<E>> resultStream() {
 
-        return getResultStream(delegate.docs.stream());
+        return getResultStream(false);
     }
 
     @Override
     public Stream<PagedSearchResult<E>> parallelStream() {
 
-        return getResultStream(delegate.docs.parallelStream());
+        return getResultStream(true);
     }
 
-    Stream<PagedSearchResult<E>> getResultStream(Stream<Document> stream) {
+    @Override
+    public Stream<PagedSearchResult<E>> getResultStream(boolean useParallel) {
 
-        return stream
+        List<String> keys = delegate.docs.stream()
                 .filter(Objects::nonNull)
-                .map(this::createSearchResult);
-    }
-
-    private PagedSearchResult<E> createSearchResult(io.redisearch.Document document) {
-
-        return new JedisPagedSearchResult<>(document.getId(), jedisRediSearchClient, exceptionHandler);
+                .map(Document::getId)
+                .collect(Collectors.toList());
+        return ChunkedPagedSearchResults.stream(keys, chunkSize, useParallel, Function.identity(), multiGet, deserializer, exceptionHandler);
     }
 }
@@ -1,10 +1,14 @@
 package com.rnbwarden.redisearch.client.jedis;
 
 import com.rnbwarden.redisearch.client.AbstractRediSearchClient;
+import com.rnbwarden.redisearch.client.BulkOperationResult;
+import com.rnbwarden.redisearch.client.IndexSchemaDiff;
 import com.rnbwarden.redisearch.client.PageableSearchResults;
 import com.rnbwarden.redisearch.client.SearchResults;
+import com.rnbwarden.redisearch.client.SerializedDocument;
 import com.rnbwarden.redisearch.client.context.PagingSearchContext;
 import com.rnbwarden.redisearch.client.context.SearchContext;
+import com.rnbwarden.redisearch.compression.CompressionDictionaryStore;
 import com.rnbwarden.redisearch.entity.RediSearchFieldType;
 import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
 import io.redisearch.*;
@@ -19,6 +23,7 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 import redis.clients.jedis.exceptions.JedisDataException;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -36,9 +41,35 @@ public class JedisRediSearchClient<E extends RedisSearchableEntity> extends Abst
                                  RedisSerializer<E> redisSerializer,
                                  Long defaultMaxResults) {
 
+        this(clazz, jRediSearchClient, redisSerializer, defaultMaxResults, null);
+    }
+
+    public JedisRediSearchClient(Class<E> clazz,
+                                 Client jRediSearchClient,
+                                 RedisSerializer<E> redisSerializer,
+                                 Long defaultMaxResults,
+                                 CompressionDictionaryStore compressionDictionaryStore) {
+
+        this(clazz, jRediSearchClient, redisSerializer, defaultMaxResults, compressionDictionaryStore, null);
+    }
+
+    /**
+     * @param indexInitializationExecutor when given, the index is created or updated on this executor rather than
+     *                                    before the constructor returns; see {@link #isIndexReady()}
+     */
+    public JedisRediSearchClient(Class<E> clazz,
+                                 Client jRediSearchClient,
+                                 RedisSerializer<E> redisSerializer,
+                                 Long defaultMaxResults,
+                                 CompressionDictionaryStore compressionDictionaryStore,
+                                 Executor indexInitializationExecutor) {
+
         super(clazz, redisSerializer, defaultMaxResults);
         this.jRediSearchClient = jRediSearchClient;
-        checkAndCreateIndex();
+        initializeIndex(indexInitializationExecutor, () -> {
+            checkAndCreateIndex();
+            initCompressionDictionary(compressionDictionaryStore);
+        });
     }
 
     protected SearchableJedisField<E> createSearchableField(RediSearchFieldType type,
@@ -62,27 +93,52 @@ public class JedisRediSearchClient<E extends RedisSearchableEntity> extends Abst
     protected void checkAndCreateIndex() {
 
         try {
-            jRediSearchClient.getInfo();
-            logger.info("checking for new fields for existing ReidSearch schema for index: " + index);
-            getFields().stream()
-                    .map(SearchableJedisField::getField)
-                    .forEach(field -> {
-                        try {
-                            jRediSearchClient.alterIndex(field);
-                        } catch (JedisDataException e) {
-                            if (!e.getMessage().equalsIgnoreCase("Duplicate field in schema")) {
-                                e.printStackTrace();
-                            }
-                        } catch (Exception e) {
-                            e.printStackTrace();
-                        }
-                    });
-
+            Map<String, Object> info = jRediSearchClient.getInfo();
+            alterSchema(info);
         } catch (JedisDataException jde) {
             this.jRediSearchClient.createIndex(createSchema(), Client.IndexOptions.defaultOptions());
         }
     }
 
+    /**
+     * Alter the existing schema to add any missing fields, in a single FT.ALTER. Differences that can not be applied
+     * are logged. As FT.ALTER fails on the first field that already exists, when another instance has added some of
+     * the fields since, the schema is read again and only the fields still missing are added.
+     */
+    private void alterSchema(Map<String, Object> info) {
+
+        logger.info("checking for new fields for existing ReidSearch schema for index: " + index);
+        IndexSchemaDiff schemaDiff = IndexSchemaDiff.of(index, info, getFields());
+        schemaDiff.getDrift().forEach(drift -> logger.warn("RediSearch schema drift: {}", drift));
+        List<String> missingFields = schemaDiff.getMissingFields();
+        while (!missingFields.isEmpty()) {
+            logger.info("adding fields {} to RediSearch schema for index: {}", missingFields, index);
+            try {
+                jRediSearchClient.alterIndex(getSchemaFields(missingFields));
+                return;
+            } catch (JedisDataException e) {
+                if (!"Duplicate field in schema".equalsIgnoreCase(e.getMessage())) {
+                    logger.error("Error adding fields to index: " + index, e);
+                    return;
+                }
+            }
+            List<String> stillMissing = IndexSchemaDiff.of(index, jRediSearchClient.getInfo(), getFields()).getMissingFields();
+            if (stillMissing.size() >= missingFields.size()) {
+                logger.error("Error adding fields {} to index: {}, as some are reported to exist but are not", stillMissing, index);
+                return;
+            }
+            missingFields = stillMissing;
+        }
+    }
+
+    private Schema.Field[] getSchemaFields(List<String> names) {
+
+        return getFields().stream()
+                .filter(field -> names.contains(field.getName()))
+                .map(SearchableJedisField::getField)
+                .toArray(Schema.Field[]::new);
+    }
+
     private Schema createSchema() {
 
         Schema schema = new Schema();
@@ -96,6 +152,7 @@ public class JedisRediSearchClient<E extends RedisSearchableEntity> extends Abst
     public void dropIndex() {
 
         jRediSearchClient.dropIndex(true);
+        invalidateQueryResultCache();
     }
 
     @Override
@@ -104,12 +161,70 @@ public class JedisRediSearchClient<E extends RedisSearchableEntity> extends Abst
         Map<String, Object> fields = serialize(entity);
         String key = getQualifiedKey(entity.getPersistenceKey());
         jRediSearchClient.addDocument(key, 1, fields, false, true, null);
+        invalidateQueryResultCache();
     }
 
     @Override
     public void delete(String key) {
 
         jRediSearchClient.deleteDocument(getQualifiedKey(key), true);
+        invalidateQueryResultCache();
+    }
+
+    /**
+     * JRediSearch pipelines the FT.ADD commands on a single connection and reports a result per document
+     */
+    @Override
+    protected void saveSerialized(List<SerializedDocument> serializedDocuments, BulkOperationResult result) {
+
+        AddOptions addOptions = new AddOptions().setReplacementPolicy(AddOptions.ReplacementPolicy.FULL);
+        List<String> keys = new ArrayList<>(serializedDocuments.size());
+        Document[] documents = new Document[serializedDocuments.size()];
+        for (SerializedDocument serializedDocument : serializedDocuments) {
+            documents[keys.size()] = new Document(getQualifiedKey(serializedDocument.getKey()), serializedDocument.getFields(), 1);
+            keys.add(serializedDocument.getKey());
+        }
+        try {
+            recordResults(keys, jRediSearchClient.addDocuments(addOptions, documents), true, result);
+        } catch (Exception e) {
+            keys.forEach(key -> result.recordFailure(key, e));
+        }
+        invalidateQueryResultCache();
+    }
+
+    /**
+     * JRediSearch pipelines the FT.DEL commands of each batch on a single connection and reports a result per key
+     */
+    @Override
+    public BulkOperationResult deleteAll(Collection<String> keys) {
+
+        return performTimedOperation("deleteAll", () -> {
+            BulkOperationResult result = new BulkOperationResult();
+            forEachBatch(keys, batch -> {
+                String[] qualifiedKeys = batch.stream().map(this::getQualifiedKey).toArray(String[]::new);
+                try {
+                    recordResults(batch, jRediSearchClient.deleteDocuments(true, qualifiedKeys), false, result);
+                } catch (Exception e) {
+                    batch.forEach(key -> result.recordFailure(key, e));
+                }
+            });
+            invalidateQueryResultCache();
+            return result;
+        });
+    }
+
+    /**
+     * @param falseIsFailure FT.ADD replies false on error, whereas FT.DEL also replies false for a missing document
+     */
+    private void recordResults(List<String> keys, boolean[] replies, boolean falseIsFailure, BulkOperationResult result) {
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (replies[i]) {
+                result.recordSuccess();
+            } else if (falseIsFailure) {
+                result.recordFailure(keys.get(i), new JedisDataException("Failed to add document: " + getQualifiedKey(keys.get(i))));
+            }
+        }
     }
 
     @Override
@@ -128,6 +243,17 @@ public class JedisRediSearchClient<E extends RedisSearchableEntity> extends Abst
         );
     }
 
+    @Override
+    public <P> Optional<P> findByKey(String key, Class<P> projectionType) {
+
+        return performTimedOperation("findByKey",
+                () -> ofNullable(jRediSearchClient.getDocument(getQualifiedKey(key), false))
+                        .map(d -> d.get(SERIALIZED_DOCUMENT))
+                        .map(b -> (byte[]) b)
+                        .map(serializedDocument -> deserialize(serializedDocument, projectionType))
+        );
+    }
+
     @Override
     public List<E> findByKeys(@NonNull Collection<String> keys) {
 
@@ -145,10 +271,21 @@ public class JedisRediSearchClient<E extends RedisSearchableEntity> extends Abst
         );
     }
 
+    /**
+     * @return the serialized document of each key, or null for a missing key
+     */
+    private List<Object> getSerializedDocuments(String[] qualifiedKeys) {
+
+        return performTimedOperation("findByKeys",
+                () -> jRediSearchClient.getDocuments(false, qualifiedKeys).stream()
+                        .map(document -> document == null ? null : document.get(SERIALIZED_DOCUMENT))
+                        .collect(Collectors.toList()));
+    }
+
     @Override
     public SearchResults<E> find(SearchContext<E> context) {
 
-        return performTimedOperation("search", () -> search(buildQuery(context)));
+        return performTimedOperation("search", () -> find(context, () -> search(buildQuery(context))));
     }
 
     private Query buildQuery(SearchContext<E> searchContext) {
@@ -210,7 +347,8 @@ public class JedisRediSearchClient<E extends RedisSearchableEntity> extends Abst
 
         return performTimedOperation("search", () -> {
             configureQueryOptions(pagingSearchContext, query);
-            return new JedisPagingSearchResults<>(performJedisSearch(query), this, pagingSearchContext.getExceptionHandler());
+            return new JedisPagingSearchResults<>(performJedisSearch(query), pagingSearchContext.getChunkSize(),
+                    this::getSerializedDocuments, this::deserializeDocument, pagingSearchContext.getExceptionHandler());
         });
     }
 
@@ -238,7 +376,8 @@ public class JedisRediSearchClient<E extends RedisSearchableEntity> extends Abst
                     () -> readCursor(aggregationResult.getCursorId(), pageSize),
                     this::deserialize,
                     null, //() -> closeCursor(connection, aggregateResults.getCursor()),
-                    searchContext.getExceptionHandler());
+                    searchContext.getExceptionHandler(),
+                    searchContext.getPrefetchDepth());
         } catch (Exception e) {
             //close(connection);
             throw (e);
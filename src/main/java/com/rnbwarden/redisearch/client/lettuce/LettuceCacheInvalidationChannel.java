@@ -0,0 +1,89 @@
+package com.rnbwarden.redisearch.client.lettuce;
+
+import com.redislabs.lettusearch.RediSearchClient;
+import com.redislabs.lettusearch.StatefulRediSearchConnection;
+import com.rnbwarden.redisearch.client.cache.CacheInvalidationChannel;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+
+import java.util.function.Consumer;
+
+/**
+ * Publishes over a shared String valued connection, since the client's codec may decode values as byte[] or entities.
+ * The subscription uses its own pub/sub connection, which Lettuce resubscribes after a reconnect; since messages published
+ * in between are lost, the listener is notified with a null message on every resubscription.
+ */
+public class LettuceCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    private final String channel;
+    private final RediSearchClient rediSearchClient;
+    private StatefulRediSearchConnection<String, String> publishConnection;
+    private StatefulRedisPubSubConnection<String, String> subscribeConnection;
+
+    public LettuceCacheInvalidationChannel(String index, RediSearchClient rediSearchClient) {
+
+        this.channel = CacheInvalidationChannel.getChannel(index);
+        this.rediSearchClient = rediSearchClient;
+    }
+
+    @Override
+    public void publish(String message) {
+
+        publishConnection().async().publish(channel, message);
+    }
+
+    private synchronized StatefulRediSearchConnection<String, String> publishConnection() {
+
+        if (publishConnection == null) {
+            publishConnection = rediSearchClient.connect();
+        }
+        return publishConnection;
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<String> listener) {
+
+        if (subscribeConnection != null) {
+            throw new IllegalStateException("Already subscribed to " + channel);
+        }
+        subscribeConnection = rediSearchClient.connectPubSub();
+        subscribeConnection.addListener(new RedisPubSubAdapter<>() {
+
+            private boolean subscribedBefore;
+
+            @Override
+            public void subscribed(String subscribedChannel, long count) {
+
+                if (!channel.equals(subscribedChannel)) {
+                    return;
+                }
+                if (subscribedBefore) {
+                    listener.accept(null);
+                }
+                subscribedBefore = true;
+            }
+
+            @Override
+            public void message(String messageChannel, String message) {
+
+                if (channel.equals(messageChannel)) {
+                    listener.accept(message);
+                }
+            }
+        });
+        subscribeConnection.sync().subscribe(channel);
+    }
+
+    @Override
+    public synchronized void close() {
+
+        if (publishConnection != null) {
+            publishConnection.close();
+            publishConnection = null;
+        }
+        if (subscribeConnection != null) {
+            subscribeConnection.close();
+            subscribeConnection = null;
+        }
+    }
+}
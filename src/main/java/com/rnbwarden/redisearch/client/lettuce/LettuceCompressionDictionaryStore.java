@@ -0,0 +1,63 @@
+package com.rnbwarden.redisearch.client.lettuce;
+
+import com.redislabs.lettusearch.RediSearchClient;
+import com.redislabs.lettusearch.RediSearchCommands;
+import com.redislabs.lettusearch.StatefulRediSearchConnection;
+import com.rnbwarden.redisearch.compression.CompressionDictionaryStore;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import static com.rnbwarden.redisearch.compression.CompressionDictionaryStore.*;
+
+/**
+ * Uses its own byte[] valued connection, since the client's codec may decode values as Strings or entities.
+ * Dictionaries are only read at startup and written when training, so connections are not pooled.
+ */
+class LettuceCompressionDictionaryStore implements CompressionDictionaryStore {
+
+    private static final RedisCodec<String, byte[]> CODEC = RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+
+    private final String index;
+    private final RediSearchClient rediSearchClient;
+
+    LettuceCompressionDictionaryStore(String index, RediSearchClient rediSearchClient) {
+
+        this.index = index;
+        this.rediSearchClient = rediSearchClient;
+    }
+
+    @Override
+    public Integer getCurrentVersion() {
+
+        byte[] version = execute(commands -> commands.get(getCurrentVersionKey(index)));
+        return version == null ? null : Integer.valueOf(new String(version, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public byte[] getDictionary(int version) {
+
+        return execute(commands -> commands.get(getDictionaryKey(index, version)));
+    }
+
+    @Override
+    public int saveDictionary(byte[] dictionary) {
+
+        return execute(commands -> {
+            int version = commands.incr(getVersionSequenceKey(index)).intValue();
+            commands.set(getDictionaryKey(index, version), dictionary);
+            commands.set(getCurrentVersionKey(index), String.valueOf(version).getBytes(StandardCharsets.UTF_8));
+            return version;
+        });
+    }
+
+    private <R> R execute(Function<RediSearchCommands<String, byte[]>, R> function) {
+
+        try (StatefulRediSearchConnection<String, byte[]> connection = rediSearchClient.connect(CODEC)) {
+            return function.apply(connection.sync());
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.rnbwarden.redisearch.client.lettuce;
+
+import com.redislabs.lettusearch.StatefulRediSearchConnection;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.support.ConnectionPoolSupport;
+import org.apache.commons.pool2.impl.AbandonedConfig;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded pool of the connections FT.AGGREGATE cursors are pinned to, as a cursor can only be read on the connection
+ * that created it. A connection is borrowed for the lifetime of a cursor and returned once the cursor is exhausted or
+ * closed, so paged queries reuse connections rather than opening one each, and wait up to maxWait for one when all are
+ * pinned.
+ *
+ * A cursor that is neither exhausted nor closed, ex: a result stream stopped early by findFirst() without being closed,
+ * would pin its connection forever, so a connection whose cursor has not been read for abandonedTimeout, by default the
+ * server's cursor idle timeout after which the cursor is gone anyway, is closed and replaced. Each such leak is logged
+ * at WARN with the stack trace of the borrower.
+ */
+public class LettuceCursorConnectionPool implements Closeable {
+
+    public static final int DEFAULT_MAX_TOTAL = 16;
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(5);
+    /**
+     * RediSearch's default cursor MAXIDLE
+     */
+    public static final Duration DEFAULT_ABANDONED_TIMEOUT = Duration.ofSeconds(300);
+
+    private final Logger logger = LoggerFactory.getLogger(LettuceCursorConnectionPool.class);
+    private final String index;
+    private final GenericObjectPool<StatefulRediSearchConnection<String, Object>> pool;
+    private final AtomicLong borrowTimeouts = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    LettuceCursorConnectionPool(String index, Supplier<StatefulRediSearchConnection<String, Object>> connectionSupplier) {
+
+        this.index = index;
+        GenericObjectPoolConfig<StatefulRediSearchConnection<String, Object>> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(DEFAULT_MAX_TOTAL);
+        config.setMaxIdle(DEFAULT_MAX_TOTAL);
+        config.setMaxWaitMillis(DEFAULT_MAX_WAIT.toMillis());
+        config.setTestOnBorrow(true);
+        config.setTimeBetweenEvictionRunsMillis(Duration.ofMinutes(1).toMillis());
+        //returned to the pool by this class, so that the pool can track the use of the unwrapped connections
+        this.pool = ConnectionPoolSupport.createGenericObjectPool(connectionSupplier, config, false);
+        setAbandonedTimeout(DEFAULT_ABANDONED_TIMEOUT);
+    }
+
+    void configure(int maxTotal, Duration maxWait, Duration abandonedTimeout) {
+
+        pool.setMaxTotal(maxTotal);
+        pool.setMaxIdle(maxTotal);
+        pool.setMaxWaitMillis(maxWait.toMillis());
+        setAbandonedTimeout(abandonedTimeout);
+    }
+
+    private void setAbandonedTimeout(Duration abandonedTimeout) {
+
+        AbandonedConfig abandonedConfig = new AbandonedConfig();
+        abandonedConfig.setRemoveAbandonedOnBorrow(true);
+        abandonedConfig.setRemoveAbandonedOnMaintenance(true);
+        abandonedConfig.setRemoveAbandonedTimeout((int) abandonedTimeout.getSeconds());
+        abandonedConfig.setUseUsageTracking(true);
+        abandonedConfig.setLogAbandoned(true);
+        abandonedConfig.setLogWriter(new PrintWriter(new WarnLogWriter(), true));
+        pool.setAbandonedConfig(abandonedConfig);
+    }
+
+    /**
+     * @throws RedisException if no connection becomes available within maxWait
+     */
+    Lease borrow() {
+
+        long start = System.nanoTime();
+        try {
+            StatefulRediSearchConnection<String, Object> connection = pool.borrowObject();
+            recordWait(System.nanoTime() - start);
+            return new Lease(connection);
+        } catch (NoSuchElementException e) {
+            recordWait(System.nanoTime() - start);
+            borrowTimeouts.incrementAndGet();
+            throw new RedisException(format("No cursor connection available for index %s within %dms (%d in use)",
+                    index, pool.getMaxWaitMillis(), pool.getNumActive()), e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RedisException(e);
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    public int getMaxTotal() {
+
+        return pool.getMaxTotal();
+    }
+
+    public int getNumActive() {
+
+        return pool.getNumActive();
+    }
+
+    public int getNumIdle() {
+
+        return pool.getNumIdle();
+    }
+
+    public int getNumWaiters() {
+
+        return pool.getNumWaiters();
+    }
+
+    public long getBorrowedCount() {
+
+        return pool.getBorrowedCount();
+    }
+
+    public long getCreatedCount() {
+
+        return pool.getCreatedCount();
+    }
+
+    public long getBorrowTimeouts() {
+
+        return borrowTimeouts.get();
+    }
+
+    /**
+     * @return the mean time callers waited for a connection, including those that timed out
+     */
+    public Duration getMeanWaitTime() {
+
+        long borrows = pool.getBorrowedCount() + borrowTimeouts.get();
+        return Duration.ofNanos(borrows == 0 ? 0 : totalWaitNanos.get() / borrows);
+    }
+
+    public Duration getMaxWaitTime() {
+
+        return Duration.ofNanos(maxWaitNanos.get());
+    }
+
+    @Override
+    public void close() {
+
+        pool.close();
+    }
+
+    /**
+     * A connection pinned to a cursor. Closing it more than once, as both exhausting and closing a cursor do, returns
+     * the connection only once.
+     */
+    class Lease implements Closeable {
+
+        private final StatefulRediSearchConnection<String, Object> connection;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(StatefulRediSearchConnection<String, Object> connection) {
+
+            this.connection = connection;
+        }
+
+        /**
+         * Marks the connection as in use, so a cursor that is still being read is never taken for abandoned
+         */
+        StatefulRediSearchConnection<String, Object> connection() {
+
+            pool.use(connection);
+            return connection;
+        }
+
+        boolean isReleased() {
+
+            return released.get();
+        }
+
+        @Override
+        public void close() {
+
+            if (released.compareAndSet(false, true)) {
+                try {
+                    if (connection.isOpen()) {
+                        pool.returnObject(connection);
+                    } else {
+                        pool.invalidateObject(connection);
+                    }
+                } catch (Exception e) {
+                    //an abandoned connection was already removed from the pool
+                    logger.debug("Error returning cursor connection for index {}: {}", index, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Logs the stack traces of abandoned borrows, which the pool prints and then flushes, at WARN
+     */
+    private class WarnLogWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+
+        @Override
+        public synchronized void write(char[] chars, int offset, int length) {
+
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public synchronized void flush() {
+
+            if (buffer.length() > 0) {
+                logger.warn("Reclaimed the cursor connection of a search on index {} that was not closed, borrowed by: {}", index, buffer.toString().trim());
+                buffer.setLength(0);
+            }
+        }
+
+        @Override
+        public void close() {
+
+            flush();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.rnbwarden.redisearch.client.lettuce;
+
+import com.redislabs.lettusearch.RediSearchClient;
+import com.redislabs.lettusearch.StatefulRediSearchConnection;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+
+/**
+ * Subscribes to the keyspace notifications of the index's keys, so the writes of any client are seen.
+ *
+ * Lettuce 5 has no RESP3 client tracking, so this relies on the server publishing keyspace events for hashes and
+ * generic commands ('notify-keyspace-events' including K, h and g, or K and A). Lettuce resubscribes after a reconnect;
+ * since notifications published in between are lost, the subscription listener is notified on every (re)subscription.
+ */
+class LettuceKeyspaceSubscription implements Closeable {
+
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+    private static final String KEYSPACE_CHANNEL_PREFIX = "__keyspace@";
+
+    private final Logger logger = LoggerFactory.getLogger(LettuceKeyspaceSubscription.class);
+    private final StatefulRedisPubSubConnection<String, String> connection;
+
+    /**
+     * @param keyListener          notified with the qualified key of every event
+     * @param subscriptionListener notified on every (re)subscription, after which events may have been missed
+     * @param eventsRequired       whether to refuse to subscribe, with an IllegalStateException, unless the keyspace
+     *                             events are confirmed to be published, rather than only warning
+     */
+    LettuceKeyspaceSubscription(String keyPrefix,
+                                RediSearchClient rediSearchClient,
+                                Consumer<String> keyListener,
+                                Runnable subscriptionListener,
+                                boolean eventsRequired) {
+
+        String events = getKeyspaceEvents(rediSearchClient);
+        if (!isKeyspaceEventsEnabled(events)) {
+            String message = format("Keyspace notifications are required to see the writes of other clients, but %s is '%s'", NOTIFY_KEYSPACE_EVENTS, events);
+            if (eventsRequired) {
+                throw new IllegalStateException(message);
+            }
+            logger.warn(message);
+        }
+        connection = rediSearchClient.connectPubSub();
+        connection.addListener(new RedisPubSubAdapter<>() {
+
+            @Override
+            public void message(String pattern, String channel, String message) {
+
+                int keyStart = channel.indexOf("__:");
+                if (channel.startsWith(KEYSPACE_CHANNEL_PREFIX) && keyStart > 0) {
+                    keyListener.accept(channel.substring(keyStart + 3));
+                }
+            }
+
+            @Override
+            public void psubscribed(String pattern, long count) {
+
+                subscriptionListener.run();
+            }
+        });
+        connection.sync().psubscribe(KEYSPACE_CHANNEL_PREFIX + "*__:" + keyPrefix + "*");
+    }
+
+    /**
+     * @return the configured keyspace events, or null if they can not be read, ex: CONFIG is disabled
+     */
+    private String getKeyspaceEvents(RediSearchClient rediSearchClient) {
+
+        try (StatefulRediSearchConnection<String, String> configConnection = rediSearchClient.connect()) {
+            return configConnection.sync().configGet(NOTIFY_KEYSPACE_EVENTS).getOrDefault(NOTIFY_KEYSPACE_EVENTS, "");
+        } catch (Exception e) {
+            logger.warn("Unable to read {}: {}", NOTIFY_KEYSPACE_EVENTS, e.getMessage());
+            return null;
+        }
+    }
+
+    static boolean isKeyspaceEventsEnabled(String events) {
+
+        if (events == null) {
+            return false;
+        }
+        boolean hashAndGenericEvents = events.contains("A") || (events.contains("h") && events.contains("g"));
+        return events.contains("K") && hashAndGenericEvents;
+    }
+
+    @Override
+    public void close() {
+
+        connection.close();
+    }
+}
@@ -1,15 +1,17 @@
 package com.rnbwarden.redisearch.client.lettuce;
 
 import com.redislabs.lettusearch.aggregate.AggregateWithCursorResults;
+import com.rnbwarden.redisearch.client.CursorPageSpliterator;
 import com.rnbwarden.redisearch.client.PageableSearchResults;
 import com.rnbwarden.redisearch.client.PagedSearchResult;
+import com.rnbwarden.redisearch.client.PrefetchingPageReader;
 import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
-import java.util.*;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -22,23 +24,25 @@ public class LettucePagingCursorSearchResults<E extends RedisSearchableEntity> i
 
     private final Logger logger = LoggerFactory.getLogger(LettucePagingCursorSearchResults.class.getName());
 
-    private AggregateWithCursorResults<String, Object> delegate;
-    private final Supplier<AggregateWithCursorResults<String, Object>> nextPageSupplier;
+    private final AggregateWithCursorResults<String, Object> delegate;
     private final Function<Map<String, Object>, E> deserializeFunction;
     private final Closeable closeable;
-    private final ResultsIterator iterator;
+    private final PrefetchingPageReader<AggregateWithCursorResults<String, Object>> pageReader;
+    private final CursorPageSpliterator<AggregateWithCursorResults<String, Object>, Map<String, Object>> spliterator;
     private final Consumer<Exception> exceptionConsumer;
 
     LettucePagingCursorSearchResults(AggregateWithCursorResults<String, Object> delegate,
                                      Supplier<AggregateWithCursorResults<String, Object>> nextPageSupplier,
                                      Function<Map<String, Object>, E> deserializeFunction,
                                      Closeable closeable,
-                                     Consumer<Exception> exceptionConsumer) {
+                                     Consumer<Exception> exceptionConsumer,
+                                     int prefetchDepth) {
 
-        this.nextPageSupplier = nextPageSupplier;
+        this.delegate = delegate;
         this.deserializeFunction = deserializeFunction;
         this.closeable = closeable;
-        this.iterator = new ResultsIterator(delegate);
+        this.pageReader = new PrefetchingPageReader<>(delegate, nextPageSupplier, page -> !page.isEmpty(), prefetchDepth);
+        this.spliterator = new CursorPageSpliterator<>(delegate, pageReader, page -> page, getTotalResults());
         this.exceptionConsumer = exceptionConsumer;
     }
 
@@ -63,8 +67,7 @@ public class LettucePagingCursorSearchResults<E extends RedisSearchableEntity> i
     @Override
     public synchronized Stream<PagedSearchResult<E>> getResultStream(boolean useParallel) {
 
-        return StreamSupport.stream(Spliterators.spliterator(iterator, getTotalResults(),
-                Spliterator.NONNULL | Spliterator.CONCURRENT | Spliterator.DISTINCT), useParallel)
+        return StreamSupport.stream(spliterator, useParallel)
                 .filter(Objects::nonNull)
                 .onClose(this::close)
                 .map(this::createSearchResult)
@@ -73,6 +76,7 @@ public class LettucePagingCursorSearchResults<E extends RedisSearchableEntity> i
 
     private void close() {
 
+        pageReader.close();
         try {
             closeable.close();
         } catch (Exception e) {
@@ -94,42 +98,4 @@ public class LettucePagingCursorSearchResults<E extends RedisSearchableEntity> i
             throw e;
         }
     }
-
-    class ResultsIterator implements Iterator<Map<String, Object>> {
-
-        private final Object lockObject = new Object();
-        private volatile boolean hasNext;
-        private volatile ConcurrentLinkedQueue<Map<String, Object>> results = new ConcurrentLinkedQueue<>();
-
-        ResultsIterator(AggregateWithCursorResults<String, Object> delegate) {
-
-            populateResultsFromAggregateResults(delegate);
-        }
-
-        private void populateResultsFromAggregateResults(AggregateWithCursorResults<String, Object> delegate) {
-
-            LettucePagingCursorSearchResults.this.delegate = delegate;
-            ofNullable(delegate).ifPresent(this.results::addAll);
-            hasNext = !results.isEmpty();
-        }
-
-        @Override
-        public boolean hasNext() {
-
-            return hasNext;
-        }
-
-        @Override
-        public Map<String, Object> next() {
-
-            if (results.peek() != null) {
-                return results.poll();
-            }
-            synchronized (lockObject) {
-                populateResultsFromAggregateResults(nextPageSupplier.get());
-                hasNext = !results.isEmpty();
-            }
-            return results.poll();
-        }
-    }
 }
@@ -2,29 +2,39 @@ package com.rnbwarden.redisearch.client.lettuce;
 
 import com.redislabs.lettusearch.search.Document;
 import com.redislabs.lettusearch.search.SearchResults;
+import com.rnbwarden.redisearch.client.ChunkedPagedSearchResults;
 import com.rnbwarden.redisearch.client.PageableSearchResults;
 import com.rnbwarden.redisearch.client.PagedSearchResult;
 import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class LettucePagingSearchResults<E extends RedisSearchableEntity> implements PageableSearchResults<E> {
 
     private final com.redislabs.lettusearch.search.SearchResults<String, Object> delegate;
-    private final LettuceRediSearchClient<E> lettuceRediSearchClient;
+    private final int chunkSize;
+    private final Function<String[], List<Object>> multiGet;
+    private final Function<Object, E> deserializer;
     private final Consumer<Exception> exceptionConsumer;
     private final String keyPrefix;
 
     LettucePagingSearchResults(String keyPrefix,
                                SearchResults<String, Object> delegate,
-                               LettuceRediSearchClient<E> lettuceRediSearchClient,
+                               int chunkSize,
+                               Function<String[], List<Object>> multiGet,
+                               Function<Object, E> deserializer,
                                Consumer<Exception> exceptionConsumer) {
 
         this.keyPrefix = keyPrefix;
         this.delegate = delegate;
-        this.lettuceRediSearchClient = lettuceRediSearchClient;
+        this.chunkSize = chunkSize;
+        this.multiGet = multiGet;
+        this.deserializer = deserializer;
         this.exceptionConsumer = exceptionConsumer;
     }
 
@@ -37,24 +47,23 @@ public class LettucePagingSearchResults<E extends RedisSearchableEntity> impleme
     @Override
     public Stream<PagedSearchResult<E>> resultStream() {
 
-        return getResultStream(delegate.stream());
+        return getResultStream(false);
     }
 
     @Override
     public Stream<PagedSearchResult<E>> parallelStream() {
 
-        return getResultStream(delegate.parallelStream());
+        return getResultStream(true);
     }
 
-    Stream<PagedSearchResult<E>> getResultStream(Stream<Document<String, Object>> stream) {
+    @Override
+    public Stream<PagedSearchResult<E>> getResultStream(boolean useParallel) {
 
-        return stream
+        List<String> qualifiedKeys = delegate.stream()
                 .filter(Objects::nonNull)
-                .map(this::createSearchResult);
-    }
-
-    private PagedSearchResult<E> createSearchResult(com.redislabs.lettusearch.search.Document<String, Object> searchResult) {
-
-        return new LettucePagedSearchResult<>(keyPrefix, searchResult.getId(), lettuceRediSearchClient, exceptionConsumer);
+                .map(Document::getId)
+                .collect(Collectors.toList());
+        return ChunkedPagedSearchResults.stream(qualifiedKeys, chunkSize, useParallel,
+                qualifiedKey -> qualifiedKey.substring(keyPrefix.length()), multiGet, deserializer, exceptionConsumer);
     }
 }
@@ -1,20 +1,34 @@
 package com.rnbwarden.redisearch.client.lettuce;
 
+import com.redislabs.lettusearch.RediSearchAsyncCommands;
+import com.redislabs.lettusearch.RediSearchReactiveCommands;
 import com.redislabs.lettusearch.StatefulRediSearchConnection;
 import com.redislabs.lettusearch.aggregate.*;
 import com.redislabs.lettusearch.index.CreateOptions;
 import com.redislabs.lettusearch.index.DropOptions;
 import com.redislabs.lettusearch.index.Schema;
+import com.redislabs.lettusearch.index.field.Field;
 import com.redislabs.lettusearch.index.field.FieldOptions;
 import com.redislabs.lettusearch.search.Limit;
 import com.redislabs.lettusearch.search.*;
 import com.rnbwarden.redisearch.client.AbstractRediSearchClient;
+import com.rnbwarden.redisearch.client.AsyncRediSearchClient;
+import com.rnbwarden.redisearch.client.BulkOperationResult;
+import com.rnbwarden.redisearch.client.IndexSchemaDiff;
 import com.rnbwarden.redisearch.client.PageableSearchResults;
+import com.rnbwarden.redisearch.client.ReactiveRediSearchClient;
+import com.rnbwarden.redisearch.client.SerializedDocument;
+import com.rnbwarden.redisearch.client.cache.NearCache;
+import com.rnbwarden.redisearch.client.cache.NegativeLookupFilter;
 import com.rnbwarden.redisearch.client.context.PagingSearchContext;
 import com.rnbwarden.redisearch.client.context.SearchContext;
 import com.rnbwarden.redisearch.entity.RediSearchFieldType;
 import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
+import io.lettuce.core.KeyScanCursor;
 import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisCommandInterruptedException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScanArgs;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.support.ConnectionPoolSupport;
 import org.apache.commons.pool2.impl.GenericObjectPool;
@@ -22,11 +36,28 @@ import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.redislabs.lettusearch.search.Direction.Ascending;
 import static com.redislabs.lettusearch.search.Direction.Descending;
@@ -38,7 +69,16 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
     private final Logger logger = LoggerFactory.getLogger(LettuceRediSearchClient.class);
     private com.redislabs.lettusearch.RediSearchClient rediSearchClient;
     private final Supplier<StatefulRediSearchConnection<String, Object>> connectionSupplier;
+    /**
+     * Null when the blocking commands are run on the shared connections
+     */
     private final GenericObjectPool<StatefulRediSearchConnection<String, Object>> pool;
+    private final LettuceCursorConnectionPool cursorConnectionPool;
+    private final LettuceSharedConnections sharedConnections;
+    private volatile NearCache<E> nearCache;
+    private LettuceKeyspaceSubscription nearCacheSubscription;
+    private volatile NegativeLookupFilter negativeLookupFilter;
+    private LettuceKeyspaceSubscription negativeLookupSubscription;
 
     public LettuceRediSearchClient(Class<E> clazz,
                                    com.redislabs.lettusearch.RediSearchClient rediSearchClient,
@@ -46,11 +86,66 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
                                    RedisSerializer<E> redisSerializer,
                                    Long defaultMaxResults) {
 
+        this(clazz, rediSearchClient, redisCodec, redisSerializer, defaultMaxResults, null);
+    }
+
+    /**
+     * @param sharedConnections when given, the blocking commands are multiplexed over these connections, which may be
+     *                          shared with the clients of other indexes using the same codec, rather than a pool of
+     *                          this client's own; otherwise they are only used by the async and reactive views
+     */
+    public LettuceRediSearchClient(Class<E> clazz,
+                                   com.redislabs.lettusearch.RediSearchClient rediSearchClient,
+                                   RedisCodec<String, Object> redisCodec,
+                                   RedisSerializer<E> redisSerializer,
+                                   Long defaultMaxResults,
+                                   LettuceSharedConnections sharedConnections) {
+
+        this(clazz, rediSearchClient, redisCodec, redisSerializer, defaultMaxResults, sharedConnections, null);
+    }
+
+    /**
+     * @param indexInitializationExecutor when given, the index is created or updated on this executor rather than
+     *                                    before the constructor returns; see {@link #isIndexReady()}
+     */
+    public LettuceRediSearchClient(Class<E> clazz,
+                                   com.redislabs.lettusearch.RediSearchClient rediSearchClient,
+                                   RedisCodec<String, Object> redisCodec,
+                                   RedisSerializer<E> redisSerializer,
+                                   Long defaultMaxResults,
+                                   LettuceSharedConnections sharedConnections,
+                                   Executor indexInitializationExecutor) {
+
+        this(clazz, rediSearchClient, () -> redisCodec, redisSerializer, defaultMaxResults, sharedConnections, indexInitializationExecutor);
+    }
+
+    /**
+     * @param redisCodecSupplier supplies the codec of each connection this client opens, for codecs that keep state
+     *                           across the values of a reply and so can not be shared between connections
+     */
+    public LettuceRediSearchClient(Class<E> clazz,
+                                   com.redislabs.lettusearch.RediSearchClient rediSearchClient,
+                                   Supplier<RedisCodec<String, Object>> redisCodecSupplier,
+                                   RedisSerializer<E> redisSerializer,
+                                   Long defaultMaxResults,
+                                   LettuceSharedConnections sharedConnections,
+                                   Executor indexInitializationExecutor) {
+
         super(clazz, redisSerializer, defaultMaxResults);
         this.rediSearchClient = rediSearchClient;
-        this.connectionSupplier = () -> rediSearchClient.connect(redisCodec);
-        this.pool = ConnectionPoolSupport.createGenericObjectPool(connectionSupplier, new GenericObjectPoolConfig<>());
-        checkAndCreateIndex();
+        this.connectionSupplier = () -> rediSearchClient.connect(redisCodecSupplier.get());
+        if (sharedConnections == null) {
+            this.pool = ConnectionPoolSupport.createGenericObjectPool(connectionSupplier, new GenericObjectPoolConfig<>());
+            this.sharedConnections = new LettuceSharedConnections(connectionSupplier, 1);
+        } else {
+            this.pool = null;
+            this.sharedConnections = sharedConnections;
+        }
+        this.cursorConnectionPool = new LettuceCursorConnectionPool(index, connectionSupplier);
+        initializeIndex(indexInitializationExecutor, () -> {
+            checkAndCreateIndex();
+            initCompressionDictionary(new LettuceCompressionDictionaryStore(index, rediSearchClient));
+        });
     }
 
     @Override
@@ -59,8 +154,8 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
         StatefulRediSearchConnection<String, String> uncompressedConnection = null;
         try {
             uncompressedConnection = rediSearchClient.connect();
-            uncompressedConnection.sync().ftInfo(index);
-            alterSchema(uncompressedConnection);
+            List<Object> info = uncompressedConnection.sync().ftInfo(index);
+            alterSchema(uncompressedConnection, info);
         } catch (RedisCommandExecutionException ex) {
             if (uncompressedConnection == null) {
                 throw ex;
@@ -76,24 +171,49 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
     }
 
     /**
-     * Alter the existing schema to add any missing fields
+     * Alter the existing schema to add any missing fields, in a single pipelined write. Differences that can not be
+     * applied are logged.
+     *
+     * @param info the FT.INFO reply of the existing index
      */
-    private void alterSchema(StatefulRediSearchConnection<String, String> connection) {
+    private void alterSchema(StatefulRediSearchConnection<String, String> connection, List<Object> info) {
 
         logger.info("checking for new fields for existing ReidSearch schema for index: " + index);
-        getFields().stream()
+        IndexSchemaDiff schemaDiff = IndexSchemaDiff.of(index, info, getFields());
+        schemaDiff.getDrift().forEach(drift -> logger.warn("RediSearch schema drift: {}", drift));
+        List<Field> missingFields = getFields().stream()
+                .filter(field -> schemaDiff.getMissingFields().contains(field.getName()))
                 .map(SearchableLettuceField::getField)
-                .forEach(field -> {
-                    try {
-                        connection.sync().alter(index, field.getName(), FieldOptions.builder().sortable(field.isSortable()).build());
-                    } catch (RedisCommandExecutionException e) {
-                        if (!e.getMessage().equalsIgnoreCase("Duplicate field in schema")) {
-                            e.printStackTrace();
-                        }
-                    } catch (Exception e) {
-                        e.printStackTrace();
+                .collect(Collectors.toList());
+        if (missingFields.isEmpty()) {
+            return;
+        }
+        logger.info("adding fields {} to RediSearch schema for index: {}", schemaDiff.getMissingFields(), index);
+        Duration timeout = connection.getTimeout();
+        connection.setAutoFlushCommands(false);
+        try {
+            List<RedisFuture<String>> futures = missingFields.stream()
+                    .map(field -> connection.async().alter(index, field.getName(), FieldOptions.builder().sortable(field.isSortable()).build()))
+                    .collect(Collectors.toList());
+            connection.flushCommands();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    //another instance may have added the field since
+                    if (!"Duplicate field in schema".equalsIgnoreCase(e.getCause().getMessage())) {
+                        logger.error("Error adding field " + missingFields.get(i).getName() + " to index: " + index, e.getCause());
                     }
-                });
+                } catch (TimeoutException e) {
+                    logger.error("Timed out adding field " + missingFields.get(i).getName() + " to index: " + index, e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RedisCommandInterruptedException(e);
+                }
+            }
+        } finally {
+            connection.setAutoFlushCommands(true);
+        }
     }
 
     private Schema createSchema() {
@@ -129,53 +249,141 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
         try (StatefulRediSearchConnection<String, String> uncompressedConnection = rediSearchClient.connect()) {
             uncompressedConnection.sync().drop(index, DropOptions.builder().keepDocs(false).build());
         }
+        ofNullable(nearCache).ifPresent(NearCache::invalidateAll);
+        invalidateQueryResultCache();
+    }
+
+    @Override
+    public void save(E entity) {
+
+        Document<String, Object> document = createDocument(serializeDocument(entity));
+        execute(connection -> {
+            return connection.sync().add(index, document, AddOptions.builder().replace(true).build());
+        });
+        documentSaved(document.getId());
+        invalidateQueryResultCache();
     }
 
     @Override
-    public Long getKeyCount() {
+    public void delete(String key) {
 
-        return getKeyCount(ALL_QUERY, 10000L);
+        execute(connection -> connection.sync().del(index, getQualifiedKey(key), true));
+        invalidateNearCache(getQualifiedKey(key));
+        invalidateQueryResultCache();
     }
 
     @Override
-    public Long getKeyCount(PagingSearchContext<E> pagingSearchContext) {
+    protected void saveSerialized(List<SerializedDocument> documents, BulkOperationResult result) {
 
-        String queryString = buildQueryString(pagingSearchContext);
-        return getKeyCount(queryString, pagingSearchContext.getPageSize());
+        AddOptions addOptions = AddOptions.builder().replace(true).build();
+        executePipelined(documents, SerializedDocument::getKey,
+                (commands, serializedDocument) -> commands.add(index, createDocument(serializedDocument), addOptions),
+                "OK"::equals,
+                result);
+        documents.forEach(document -> documentSaved(getQualifiedKey(document.getKey())));
+        invalidateQueryResultCache();
     }
 
-    private Long getKeyCount(String queryString, long pageSize) {
+    /**
+     * Grows the pool so each writer borrows its own connection. The pool keeps the larger maximum, while the connections
+     * beyond its max idle are closed as they are returned. Shared connections are not grown; the writers multiplex over
+     * their stripes.
+     */
+    @Override
+    protected int reserveWriteConnections(int writers) {
 
-        AggregateOptions aggregateOptions = AggregateOptions.builder().build();
-        Cursor cursor = Cursor.builder().count(pageSize).build();
-        long count;
-        try (StatefulRediSearchConnection<String, Object> connection = connectionSupplier.get()) {
-            AggregateWithCursorResults<String, Object> aggregateResults = connection.sync().aggregate(index, queryString, cursor, aggregateOptions);
-            count = aggregateResults.size();
-            while (aggregateResults.getCursor() != 0) {
-                aggregateResults = readCursor(aggregateResults.getCursor(), pageSize, connection);
-                count += aggregateResults.size();
+        if (pool == null) {
+            return Math.min(writers, sharedConnections.getStripes());
+        }
+        synchronized (pool) {
+            if (pool.getMaxTotal() >= 0 && pool.getMaxTotal() < writers) {
+                pool.setMaxTotal(writers);
             }
         }
-        return count;
+        return writers;
+    }
+
+    private Document<String, Object> createDocument(SerializedDocument serializedDocument) {
+
+        Document<String, Object> document = new Document<>(getQualifiedKey(serializedDocument.getKey()), 1.0, null);
+        document.putAll(serializedDocument.getFields());
+        return document;
     }
 
     @Override
-    public void save(E entity) {
+    public BulkOperationResult deleteAll(Collection<String> keys) {
+
+        return performTimedOperation("deleteAll", () -> {
+            BulkOperationResult result = new BulkOperationResult();
+            forEachBatch(keys, batch -> executePipelined(batch, Function.identity(),
+                    (commands, key) -> commands.del(index, getQualifiedKey(key), true),
+                    Boolean.TRUE::equals,
+                    result));
+            keys.forEach(key -> invalidateNearCache(getQualifiedKey(key)));
+            invalidateQueryResultCache();
+            return result;
+        });
+    }
+
+    /**
+     * Queues the commands without flushing, then flushes them in a single write and awaits the replies. A failure of
+     * one command is recorded against its key and the remaining replies are still awaited. A shared connection must keep
+     * flushing the commands of its other callers, so there each command is written as it is queued, still without
+     * awaiting its reply.
+     */
+    private <I, R> void executePipelined(List<I> batch,
+                                         Function<I, String> keyFunction,
+                                         BiFunction<RediSearchAsyncCommands<String, Object>, I, RedisFuture<R>> command,
+                                         Predicate<R> success,
+                                         BulkOperationResult result) {
 
-        Map<String, Object> fields = serialize(entity);
-        String key = getQualifiedKey(entity.getPersistenceKey());
-        Document<String, Object> document = new Document<>(key, 1.0, null);
-        document.putAll(fields);
+        boolean dedicatedConnection = pool != null;
         execute(connection -> {
-            return connection.sync().add(index, document, AddOptions.builder().replace(true).build());
+            Duration timeout = connection.getTimeout();
+            if (dedicatedConnection) {
+                connection.setAutoFlushCommands(false);
+            }
+            try {
+                List<String> keys = new ArrayList<>(batch.size());
+                List<RedisFuture<R>> futures = new ArrayList<>(batch.size());
+                for (I item : batch) {
+                    String key = keyFunction.apply(item);
+                    try {
+                        futures.add(command.apply(connection.async(), item));
+                        keys.add(key);
+                    } catch (Exception e) {
+                        result.recordFailure(key, e);
+                    }
+                }
+                if (dedicatedConnection) {
+                    connection.flushCommands();
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    awaitReply(keys.get(i), futures.get(i), timeout, success, result);
+                }
+            } finally {
+                if (dedicatedConnection) {
+                    connection.setAutoFlushCommands(true);
+                }
+            }
+            return result;
         });
     }
 
-    @Override
-    public void delete(String key) {
+    private <R> void awaitReply(String key, RedisFuture<R> future, Duration timeout, Predicate<R> success, BulkOperationResult result) {
 
-        execute(connection -> connection.sync().del(index, getQualifiedKey(key), true));
+        try {
+            if (success.test(future.get(timeout.toNanos(), TimeUnit.NANOSECONDS))) {
+                result.recordSuccess();
+            }
+        } catch (ExecutionException e) {
+            result.recordFailure(key, e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } catch (TimeoutException e) {
+            result.recordFailure(key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        }
     }
 
     @Override
@@ -186,20 +394,48 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
 
     Optional<E> findByQualifiedKey(String key) {
 
+        return performTimedOperation("findByKey", () -> {
+            if (!mightExist(key)) {
+                return Optional.<E>empty();
+            }
+            NearCache<E> cache = nearCache;
+            if (cache == null) {
+                return readByQualifiedKey(key);
+            }
+            E cached = cache.get(key);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            long readVersion = cache.getVersion();
+            Optional<E> entity = readByQualifiedKey(key);
+            entity.ifPresent(value -> cache.put(key, value, readVersion));
+            return entity;
+        });
+    }
+
+    private Optional<E> readByQualifiedKey(String key) {
+
+        return ofNullable(getByKey(key))
+                .map(map -> map.get(SERIALIZED_DOCUMENT))
+                .map(this::deserializeDocument);
+    }
+
+    @Override
+    public <P> Optional<P> findByKey(String key, Class<P> projectionType) {
+
+        String qualifiedKey = getQualifiedKey(key);
+        if (!mightExist(qualifiedKey)) {
+            return Optional.empty();
+        }
         return performTimedOperation("findByKey",
-                () -> ofNullable(getByKey(key))
+                () -> ofNullable(getByKey(qualifiedKey))
                         .map(map -> map.get(SERIALIZED_DOCUMENT))
-                        .map(byte[].class::cast)
-                        .map(redisSerializer::deserialize));
+                        .map(serializedDocument -> deserialize(serializedDocument, projectionType)));
     }
 
     private Map<String, Object> getByKey(String key) {
 
-        try (StatefulRediSearchConnection<String, Object> connection = pool.borrowObject()) {
-            return connection.sync().get(index, key);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return execute(connection -> connection.sync().get(index, key));
     }
 
     @Override
@@ -207,29 +443,197 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
 
         return performTimedOperation("findByKeys",
                 () -> {
-                    String[] qualifiedKeys = keys.stream().map(this::getQualifiedKey).toArray(String[]::new);
+                    String[] qualifiedKeys = keys.stream().map(this::getQualifiedKey).filter(this::mightExist).toArray(String[]::new);
+                    if (qualifiedKeys.length == 0) {
+                        return new ArrayList<E>();
+                    }
+                    NearCache<E> cache = nearCache;
+                    if (cache != null) {
+                        return findByQualifiedKeys(qualifiedKeys, cache);
+                    }
                     return getByKeys(qualifiedKeys).stream()
                             .filter(Objects::nonNull)
                             .map(map -> map.get(SERIALIZED_DOCUMENT))
-                            .map(byte[].class::cast)
-                            .map(redisSerializer::deserialize)
+                            .map(this::deserializeDocument)
                             .collect(Collectors.toList());
                 });
     }
 
-    private List<Map<String, Object>> getByKeys(String[] qualifiedKeys) {
+    /**
+     * Only the keys missing from the near cache are read, in a single FT.MGET, keeping the order of the keys
+     */
+    private List<E> findByQualifiedKeys(String[] qualifiedKeys, NearCache<E> cache) {
 
-        try (StatefulRediSearchConnection<String, Object> connection = pool.borrowObject()) {
-            return connection.sync().ftMget(index, qualifiedKeys);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        List<E> entities = qualifiedKeys.length == 0 ? new ArrayList<>() : getNearCached(qualifiedKeys, cache);
+        String[] missingKeys = getMissingKeys(qualifiedKeys, entities);
+        if (missingKeys.length > 0) {
+            long readVersion = cache.getVersion();
+            addMissing(entities, missingKeys, getByKeys(missingKeys), cache, readVersion);
+        }
+        entities.removeIf(Objects::isNull);
+        return entities;
+    }
+
+    /**
+     * @return the near cached entity of each key, or null where it has to be read
+     */
+    private List<E> getNearCached(String[] qualifiedKeys, NearCache<E> cache) {
+
+        List<E> entities = new ArrayList<>(qualifiedKeys.length);
+        for (String qualifiedKey : qualifiedKeys) {
+            entities.add(cache.get(qualifiedKey));
+        }
+        return entities;
+    }
+
+    private String[] getMissingKeys(String[] qualifiedKeys, List<E> entities) {
+
+        return IntStream.range(0, qualifiedKeys.length)
+                .filter(i -> entities.get(i) == null)
+                .mapToObj(i -> qualifiedKeys[i])
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Fills the missing entities, in order, from the documents read for the missing keys, and caches them
+     */
+    private void addMissing(List<E> entities, String[] missingKeys, List<Map<String, Object>> documents, NearCache<E> cache, long readVersion) {
+
+        int missing = 0;
+        for (int i = 0; i < entities.size() && missing < missingKeys.length && missing < documents.size(); i++) {
+            if (entities.get(i) != null) {
+                continue;
+            }
+            Map<String, Object> document = documents.get(missing);
+            Object serializedDocument = document == null ? null : document.get(SERIALIZED_DOCUMENT);
+            if (serializedDocument != null) {
+                E entity = deserializeDocument(serializedDocument);
+                entities.set(i, entity);
+                cache.put(missingKeys[missing], entity, readVersion);
+            }
+            missing++;
+        }
+    }
+
+    /**
+     * Caches the entities read by {@link #findByKey(String)} and {@link #findByKeys(Collection)} locally. Writes
+     * through this client invalidate their keys immediately, and writes by any client are invalidated from keyspace
+     * notifications. The cached entities are shared between callers, so must not be modified.
+     */
+    public synchronized void enableNearCache(int maxSize, Duration ttl) {
+
+        disableNearCache();
+        NearCache<E> cache = new NearCache<>(maxSize, ttl);
+        nearCacheSubscription = new LettuceKeyspaceSubscription(keyPrefix, rediSearchClient, cache::invalidate, cache::invalidateAll, false);
+        nearCache = cache;
+    }
+
+    public synchronized void disableNearCache() {
+
+        nearCache = null;
+        if (nearCacheSubscription != null) {
+            nearCacheSubscription.close();
+            nearCacheSubscription = null;
         }
     }
 
+    public Optional<NearCache<E>> getNearCache() {
+
+        return ofNullable(nearCache);
+    }
+
+    /**
+     * Consults a local Bloom filter of the index's keys before reading a key, so lookups of keys that do not exist
+     * skip the round trip. Writes through this client add their keys immediately and writes by any client are added
+     * from keyspace notifications. Deleted keys are dropped by rebuilding the filter from a SCAN of the index's keys
+     * every rebuildInterval, and after keyspace notifications may have been missed.
+     *
+     * Without keyspace notifications the keys saved by other clients would be reported missing until the next rebuild,
+     * so the filter is only enabled when the server is confirmed to publish them.
+     *
+     * @param expectedKeys the number of keys to size the filter for, until a rebuild finds more
+     * @throws IllegalStateException if the server's notify-keyspace-events can not be confirmed to include K and h and
+     *                               g (or A)
+     */
+    public synchronized void enableNegativeLookupFilter(long expectedKeys, double falsePositiveProbability, Duration rebuildInterval) {
+
+        disableNegativeLookupFilter();
+        NegativeLookupFilter filter = new NegativeLookupFilter(index, expectedKeys, falsePositiveProbability, rebuildInterval, this::scanKeys);
+        try {
+            negativeLookupSubscription = new LettuceKeyspaceSubscription(keyPrefix, rediSearchClient, filter::add, filter::scheduleRebuild, true);
+        } catch (RuntimeException e) {
+            filter.close();
+            throw e;
+        }
+        negativeLookupFilter = filter;
+    }
+
+    public synchronized void disableNegativeLookupFilter() {
+
+        NegativeLookupFilter filter = negativeLookupFilter;
+        negativeLookupFilter = null;
+        if (negativeLookupSubscription != null) {
+            negativeLookupSubscription.close();
+            negativeLookupSubscription = null;
+        }
+        if (filter != null) {
+            filter.close();
+        }
+    }
+
+    public Optional<NegativeLookupFilter> getNegativeLookupFilter() {
+
+        return ofNullable(negativeLookupFilter);
+    }
+
+    private boolean mightExist(String qualifiedKey) {
+
+        NegativeLookupFilter filter = negativeLookupFilter;
+        return filter == null || filter.mightContain(qualifiedKey);
+    }
+
+    private void scanKeys(Consumer<String> keyConsumer) {
+
+        ScanArgs scanArgs = ScanArgs.Builder.matches(keyPrefix + "*").limit(1000);
+        try (StatefulRediSearchConnection<String, String> connection = rediSearchClient.connect()) {
+            KeyScanCursor<String> cursor = connection.sync().scan(scanArgs);
+            cursor.getKeys().forEach(keyConsumer);
+            while (!cursor.isFinished()) {
+                cursor = connection.sync().scan(cursor, scanArgs);
+                cursor.getKeys().forEach(keyConsumer);
+            }
+        }
+    }
+
+    /**
+     * Called after a document is saved
+     */
+    private void documentSaved(String qualifiedKey) {
+
+        NegativeLookupFilter filter = negativeLookupFilter;
+        if (filter != null) {
+            filter.add(qualifiedKey);
+        }
+        invalidateNearCache(qualifiedKey);
+    }
+
+    private void invalidateNearCache(String qualifiedKey) {
+
+        NearCache<E> cache = nearCache;
+        if (cache != null) {
+            cache.invalidate(qualifiedKey);
+        }
+    }
+
+    private List<Map<String, Object>> getByKeys(String[] qualifiedKeys) {
+
+        return execute(connection -> connection.sync().ftMget(index, qualifiedKeys));
+    }
+
     @Override
     public com.rnbwarden.redisearch.client.SearchResults<E> find(SearchContext<E> searchContext) {
 
-        return performTimedOperation("search", () -> search(buildQueryString(searchContext), searchContext));
+        return performTimedOperation("search", () -> find(searchContext, () -> search(buildQueryString(searchContext), searchContext)));
     }
 
     @Override
@@ -268,13 +672,59 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
             SearchOptions lettusearchOptions = configureQueryOptions(pagingSearchContext);
             SearchResults<String, Object> searchResults = connection.sync().search(index, queryString, lettusearchOptions);
             logger.debug("found count {}", searchResults.getCount());
-            return new LettucePagingSearchResults<>(keyPrefix, searchResults, this, pagingSearchContext.getExceptionHandler());
+            return createPagingSearchResults(searchResults, pagingSearchContext);
         });
     }
 
+    private PageableSearchResults<E> createPagingSearchResults(SearchResults<String, Object> searchResults, PagingSearchContext<E> pagingSearchContext) {
+
+        return new LettucePagingSearchResults<>(keyPrefix, searchResults, pagingSearchContext.getChunkSize(),
+                this::getSerializedDocuments, this::deserializeDocument, pagingSearchContext.getExceptionHandler());
+    }
+
+    /**
+     * @return the serialized document of each key, or null for a missing key
+     */
+    private List<Object> getSerializedDocuments(String[] qualifiedKeys) {
+
+        return performTimedOperation("findByKeys",
+                () -> getByKeys(qualifiedKeys).stream()
+                        .map(fields -> fields == null ? null : fields.get(SERIALIZED_DOCUMENT))
+                        .collect(Collectors.toList()));
+    }
+
     @Override
     protected PageableSearchResults<E> aggregateSearch(String queryString, PagingSearchContext<E> searchContext) {
 
+        AggregateOptions aggregateOptions = createAggregateOptions(searchContext);
+        Cursor cursor = Cursor.builder().count(searchContext.getPageSize()).build();
+
+        LettuceCursorConnectionPool.Lease lease = cursorConnectionPool.borrow();
+        try {
+            AggregateWithCursorResults<String, Object> aggregateResults = lease.connection().sync().aggregate(index, queryString, cursor, aggregateOptions);
+            return createCursorSearchResults(lease, aggregateResults, searchContext);
+        } catch (Exception e) {
+            lease.close();
+            throw (e);
+        }
+    }
+
+    /**
+     * The cursor connections are pooled separately, bounded by maxTotal, waiting up to maxWait for a connection once
+     * all are pinned to cursors, and reclaiming the connection of a cursor left unread for abandonedTimeout
+     */
+    public void configureCursorConnectionPool(int maxTotal, Duration maxWait, Duration abandonedTimeout) {
+
+        cursorConnectionPool.configure(maxTotal, maxWait, abandonedTimeout);
+    }
+
+    public LettuceCursorConnectionPool getCursorConnectionPool() {
+
+        return cursorConnectionPool;
+    }
+
+    private AggregateOptions createAggregateOptions(PagingSearchContext<E> searchContext) {
+
         AggregateOptions.AggregateOptionsBuilder aggregateOptionsBuilder = AggregateOptions.builder()
                 .operation(com.redislabs.lettusearch.aggregate.Limit.builder().num(searchContext.getLimit())
                         .offset(searchContext.getOffset()).build());
@@ -284,27 +734,267 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
             aggregateOptionsBuilder.operation(Sort.builder().property(sortProperty).build());
         });
         aggregateOptionsBuilder.load(SERIALIZED_DOCUMENT);
+        return aggregateOptionsBuilder.build();
+    }
+
+    /**
+     * The cursor is bound to the leased connection, which is returned to the pool once the cursor is exhausted or closed
+     */
+    private PageableSearchResults<E> createCursorSearchResults(LettuceCursorConnectionPool.Lease lease,
+                                                               AggregateWithCursorResults<String, Object> aggregateResults,
+                                                               PagingSearchContext<E> searchContext) {
 
-        AggregateOptions aggregateOptions = aggregateOptionsBuilder.build();
         long pageSize = searchContext.getPageSize();
-        Cursor cursor = Cursor.builder().count(pageSize).build();
+        return new LettucePagingCursorSearchResults<>(aggregateResults,
+                () -> readCursor(aggregateResults.getCursor(), pageSize, lease),
+                this::deserialize,
+                () -> closeCursor(lease, aggregateResults.getCursor()),
+                searchContext.getExceptionHandler(),
+                searchContext.getPrefetchDepth());
+    }
 
-        StatefulRediSearchConnection<String, Object> connection = connectionSupplier.get();
-        try {
-            AggregateWithCursorResults<String, Object> aggregateResults = connection.sync().aggregate(index, queryString, cursor, aggregateOptions);
-            return new LettucePagingCursorSearchResults<>(aggregateResults,
-                    () -> readCursor(aggregateResults.getCursor(), pageSize, connection),
-                    this::deserialize,
-                    () -> closeCursor(connection, aggregateResults.getCursor()),
-                    searchContext.getExceptionHandler());
-        } catch (Exception e) {
-            close(connection);
-            throw (e);
+    /**
+     * A view of this client whose operations do not block the calling thread, deserializing on the common fork join pool
+     */
+    public AsyncRediSearchClient<E> async() {
+
+        return async(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * A view of this client whose operations do not block the calling thread. Commands are multiplexed over a single
+     * shared connection and documents are serialized and deserialized on the given executor.
+     */
+    public AsyncRediSearchClient<E> async(Executor executor) {
+
+        return new LettuceAsyncRediSearchClient(executor);
+    }
+
+    /**
+     * A view of this client streaming search results with backpressure, deserializing on the parallel scheduler
+     */
+    public ReactiveRediSearchClient<E> reactive() {
+
+        return reactive(Schedulers.parallel());
+    }
+
+    /**
+     * A view of this client streaming search results with backpressure. Commands are multiplexed over a single shared
+     * connection and documents are deserialized on the given scheduler rather than the connection's event loop.
+     */
+    public ReactiveRediSearchClient<E> reactive(Scheduler scheduler) {
+
+        return new LettuceReactiveRediSearchClient(scheduler);
+    }
+
+    private RediSearchAsyncCommands<String, Object> sharedAsyncCommands() {
+
+        return sharedConnections.connection().async();
+    }
+
+    /**
+     * @return the connections the async and reactive views, and the blocking commands unless pooled, are multiplexed over
+     */
+    public LettuceSharedConnections getSharedConnections() {
+
+        return sharedConnections;
+    }
+
+    private class LettuceAsyncRediSearchClient implements AsyncRediSearchClient<E> {
+
+        private final Executor executor;
+
+        LettuceAsyncRediSearchClient(Executor executor) {
+
+            this.executor = executor;
+        }
+
+        @Override
+        public CompletableFuture<Void> save(E entity) {
+
+            AddOptions addOptions = AddOptions.builder().replace(true).build();
+            return CompletableFuture.supplyAsync(() -> createDocument(serializeDocument(entity)), executor)
+                    .thenCompose(document -> sharedAsyncCommands().add(index, document, addOptions))
+                    //off the connection's event loop, as publishing the invalidation may have to connect first
+                    .thenApplyAsync(reply -> {
+                        documentSaved(getQualifiedKey(entity.getPersistenceKey()));
+                        invalidateQueryResultCache();
+                        return null;
+                    }, executor);
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(String key) {
+
+            return sharedAsyncCommands().del(index, getQualifiedKey(key), true)
+                    .thenApplyAsync(deleted -> {
+                        invalidateNearCache(getQualifiedKey(key));
+                        invalidateQueryResultCache();
+                        return (Void) null;
+                    }, executor)
+                    .toCompletableFuture();
+        }
+
+        @Override
+        public CompletableFuture<Optional<E>> findByKey(String key) {
+
+            String qualifiedKey = getQualifiedKey(key);
+            if (!mightExist(qualifiedKey)) {
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+            NearCache<E> cache = nearCache;
+            E cached = cache == null ? null : cache.get(qualifiedKey);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(Optional.of(cached));
+            }
+            long readVersion = cache == null ? 0 : cache.getVersion();
+            return sharedAsyncCommands().get(index, qualifiedKey)
+                    .thenApplyAsync(fields -> {
+                        Optional<E> entity = ofNullable(fields)
+                                .map(map -> map.get(SERIALIZED_DOCUMENT))
+                                .map(LettuceRediSearchClient.this::deserializeDocument);
+                        if (cache != null) {
+                            entity.ifPresent(value -> cache.put(qualifiedKey, value, readVersion));
+                        }
+                        return entity;
+                    }, executor)
+                    .toCompletableFuture();
+        }
+
+        @Override
+        public CompletableFuture<List<E>> findByKeys(Collection<String> keys) {
+
+            String[] qualifiedKeys = keys.stream().map(LettuceRediSearchClient.this::getQualifiedKey)
+                    .filter(LettuceRediSearchClient.this::mightExist)
+                    .toArray(String[]::new);
+            if (qualifiedKeys.length == 0) {
+                return CompletableFuture.completedFuture(new ArrayList<>());
+            }
+            NearCache<E> cache = nearCache;
+            if (cache == null) {
+                return sharedAsyncCommands().ftMget(index, qualifiedKeys)
+                        .thenApplyAsync(documents -> documents.stream()
+                                .filter(Objects::nonNull)
+                                .map(map -> map.get(SERIALIZED_DOCUMENT))
+                                .map(LettuceRediSearchClient.this::deserializeDocument)
+                                .collect(Collectors.toList()), executor)
+                        .toCompletableFuture();
+            }
+            List<E> entities = getNearCached(qualifiedKeys, cache);
+            String[] missingKeys = getMissingKeys(qualifiedKeys, entities);
+            if (missingKeys.length == 0) {
+                return CompletableFuture.completedFuture(entities);
+            }
+            long readVersion = cache.getVersion();
+            return sharedAsyncCommands().ftMget(index, missingKeys)
+                    .thenApplyAsync(documents -> {
+                        addMissing(entities, missingKeys, documents, cache, readVersion);
+                        entities.removeIf(Objects::isNull);
+                        return entities;
+                    }, executor)
+                    .toCompletableFuture();
+        }
+
+        @Override
+        public CompletableFuture<com.rnbwarden.redisearch.client.SearchResults<E>> find(SearchContext<E> searchContext) {
+
+            return findAsync(searchContext, () -> sharedAsyncCommands().search(index, buildQueryString(searchContext), configureQueryOptions(searchContext))
+                    .thenApplyAsync(searchResults -> (com.rnbwarden.redisearch.client.SearchResults<E>) new LettuceSearchResults<E>(keyPrefix, searchResults), executor)
+                    .toCompletableFuture());
+        }
+
+        @Override
+        public CompletableFuture<PageableSearchResults<E>> search(PagingSearchContext<E> pagingSearchContext) {
+
+            String queryString = buildQueryString(pagingSearchContext);
+            if (pagingSearchContext.isUseClientSidePaging()) {
+                pagingSearchContext.setNoContent(true); //First query should explicitly avoid retrieving data
+                return sharedAsyncCommands().search(index, queryString, configureQueryOptions(pagingSearchContext))
+                        .thenApplyAsync(searchResults -> createPagingSearchResults(searchResults, pagingSearchContext), executor)
+                        .toCompletableFuture();
+            }
+            AggregateOptions aggregateOptions = createAggregateOptions(pagingSearchContext);
+            Cursor cursor = Cursor.builder().count(pagingSearchContext.getPageSize()).build();
+            //the cursor is pinned to a pooled connection, which may have to be waited for
+            return CompletableFuture.supplyAsync(cursorConnectionPool::borrow, executor)
+                    .thenCompose(lease -> lease.connection().async().aggregate(index, queryString, cursor, aggregateOptions)
+                            .thenApplyAsync(aggregateResults -> createCursorSearchResults(lease, aggregateResults, pagingSearchContext), executor)
+                            .whenComplete((results, throwable) -> {
+                                if (throwable != null) {
+                                    lease.close();
+                                }
+                            }));
+        }
+    }
+
+    private class LettuceReactiveRediSearchClient implements ReactiveRediSearchClient<E> {
+
+        private final Scheduler scheduler;
+
+        LettuceReactiveRediSearchClient(Scheduler scheduler) {
+
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public Flux<E> search(PagingSearchContext<E> pagingSearchContext) {
+
+            return Flux.defer(() -> {
+                //the cursor is read on the connection that created it
+                RediSearchReactiveCommands<String, Object> commands = sharedConnections.connection().reactive();
+                String queryString = buildQueryString(pagingSearchContext);
+                long pageSize = pagingSearchContext.getPageSize();
+                Cursor cursor = Cursor.builder().count(pageSize).build();
+                AtomicLong openCursor = new AtomicLong();
+
+                //expand only reads the next page once the results of the previous one have been requested
+                return commands.aggregate(index, queryString, cursor, createAggregateOptions(pagingSearchContext))
+                        .expand(page -> page.getCursor() == 0 ? Mono.empty() : readCursor(commands, page.getCursor(), pageSize))
+                        .doOnNext(page -> openCursor.set(page.getCursor()))
+                        .concatMapIterable(Function.identity(), 1)
+                        .publishOn(scheduler)
+                        .<E>handle((fields, sink) -> deserialize(fields, sink, pagingSearchContext.getExceptionHandler()))
+                        .doFinally(signalType -> deleteCursor(commands, openCursor.get()));
+            });
+        }
+
+        private Mono<AggregateWithCursorResults<String, Object>> readCursor(RediSearchReactiveCommands<String, Object> commands, long cursor, long pageSize) {
+
+            return commands.cursorRead(index, cursor, pageSize)
+                    .onErrorResume(e -> e instanceof RedisCommandExecutionException && "Cursor not found".equalsIgnoreCase(e.getMessage()),
+                            e -> Mono.empty());
+        }
+
+        private void deserialize(Map<String, Object> fields, SynchronousSink<E> sink, Consumer<Exception> exceptionHandler) {
+
+            try {
+                sink.next(LettuceRediSearchClient.this.deserialize(fields));
+            } catch (Exception e) {
+                if (exceptionHandler == null) {
+                    sink.error(e);
+                } else {
+                    exceptionHandler.accept(e);
+                }
+            }
+        }
+
+        /**
+         * An exhausted cursor is deleted by the server; one abandoned by a cancelled or failed subscription is not
+         */
+        private void deleteCursor(RediSearchReactiveCommands<String, Object> commands, long cursor) {
+
+            if (cursor != 0) {
+                commands.cursorDelete(index, cursor)
+                        .subscribe(null, e -> logger.warn("Error closing RediSearch cursor. " + e.getMessage(), e));
+            }
         }
     }
 
     private <R> R execute(Function<StatefulRediSearchConnection<String, Object>, R> function) {
 
+        if (pool == null) {
+            return function.apply(sharedConnections.connection());
+        }
         try (StatefulRediSearchConnection<String, Object> connection = pool.borrowObject()) {
             return function.apply(connection);
         } catch (Exception e) {
@@ -312,16 +1002,16 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
         }
     }
 
-    private AggregateWithCursorResults<String, Object> readCursor(Long cursor, Long count, StatefulRediSearchConnection<String, Object> connection) {
+    private AggregateWithCursorResults<String, Object> readCursor(Long cursor, Long count, LettuceCursorConnectionPool.Lease lease) {
 
         if (cursor == 0) {
-            close(connection);
+            lease.close();
             return null;
         }
         try {
-            return connection.sync().cursorRead(index, cursor, count);
+            return lease.connection().sync().cursorRead(index, cursor, count);
         } catch (RedisCommandExecutionException redisCommandExecutionException) {
-            closeCursor(connection, cursor);
+            closeCursor(lease, cursor);
             if ("Cursor not found".equalsIgnoreCase(redisCommandExecutionException.getMessage())) {
                 return null;
             }
@@ -329,26 +1019,18 @@ public class LettuceRediSearchClient<E extends RedisSearchableEntity> extends Ab
         }
     }
 
-    private void closeCursor(StatefulRediSearchConnection<String, Object> connection, Long cursor) {
+    /**
+     * Once the lease was returned, the connection may already be pinned to another cursor
+     */
+    private void closeCursor(LettuceCursorConnectionPool.Lease lease, Long cursor) {
 
-        if (cursor != null) {
+        if (cursor != null && cursor != 0 && !lease.isReleased()) {
             try {
-                connection.async().cursorDelete(index, cursor);
+                lease.connection().async().cursorDelete(index, cursor);
             } catch (Exception e) {
                 logger.warn("Error closing RediSearch cursor. " + e.getMessage(), e);
             }
         }
-        close(connection);
-    }
-
-    private void close(StatefulRediSearchConnection<String, Object> connection) {
-
-        try {
-            if (connection != null && connection.isOpen()) {
-                connection.close();
-            }
-        } catch (Exception e) {
-            logger.warn("Error closing RediSearch connection. " + e.getMessage(), e);
-        }
+        lease.close();
     }
 }
\ No newline at end of file
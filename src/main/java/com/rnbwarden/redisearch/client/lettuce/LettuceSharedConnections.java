@@ -0,0 +1,87 @@
+package com.rnbwarden.redisearch.client.lettuce;
+
+import com.redislabs.lettusearch.RediSearchClient;
+import com.redislabs.lettusearch.StatefulRediSearchConnection;
+import io.lettuce.core.codec.RedisCodec;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Multiplexed connections shared by the clients of any number of indexes. A Lettuce connection is thread-safe and
+ * pipelines the commands of all its callers, so rather than each client pooling connections that mostly sit idle, the
+ * clients can share one, or a few striped ones once a single connection's event loop becomes the bottleneck.
+ *
+ * Each thread is assigned a stripe, so the commands of a thread stay in order. The connections are opened when first
+ * used and reconnect by themselves. Cursors, which are bound to their connection, and commands that change the state of
+ * the connection, such as disabling auto flush, are not run on these.
+ */
+public class LettuceSharedConnections implements Closeable {
+
+    private final Supplier<StatefulRediSearchConnection<String, Object>> connectionSupplier;
+    private final AtomicReferenceArray<StatefulRediSearchConnection<String, Object>> connections;
+
+    public LettuceSharedConnections(RediSearchClient rediSearchClient, RedisCodec<String, Object> redisCodec, int stripes) {
+
+        this(() -> rediSearchClient.connect(redisCodec), stripes);
+    }
+
+    LettuceSharedConnections(Supplier<StatefulRediSearchConnection<String, Object>> connectionSupplier, int stripes) {
+
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be at least 1");
+        }
+        this.connectionSupplier = connectionSupplier;
+        this.connections = new AtomicReferenceArray<>(stripes);
+    }
+
+    /**
+     * @return the connection of the calling thread's stripe
+     */
+    public StatefulRediSearchConnection<String, Object> connection() {
+
+        int stripe = (int) (Thread.currentThread().getId() % connections.length());
+        StatefulRediSearchConnection<String, Object> connection = connections.get(stripe);
+        if (connection == null) {
+            synchronized (this) {
+                connection = connections.get(stripe);
+                if (connection == null) {
+                    connection = connectionSupplier.get();
+                    connections.set(stripe, connection);
+                }
+            }
+        }
+        return connection;
+    }
+
+    public int getStripes() {
+
+        return connections.length();
+    }
+
+    /**
+     * @return the number of stripes whose connection has been opened
+     */
+    public int getOpenConnections() {
+
+        int open = 0;
+        for (int stripe = 0; stripe < connections.length(); stripe++) {
+            if (connections.get(stripe) != null) {
+                open++;
+            }
+        }
+        return open;
+    }
+
+    @Override
+    public synchronized void close() {
+
+        for (int stripe = 0; stripe < connections.length(); stripe++) {
+            StatefulRediSearchConnection<String, Object> connection = connections.getAndSet(stripe, null);
+            if (connection != null) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.rnbwarden.redisearch.compression;
+
+import com.rnbwarden.redisearch.compression.StreamingCompressionCodec.DocumentReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Copies direct buffers into a reusable per-thread array for codecs that can only read arrays.
+ */
+class ByteBufferCopies {
+
+    private static final int WORK_BUFFER_SIZE = 8192;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<ReusableByteArrayOutputStream> copyBuffers = ThreadLocal.withInitial(() -> new ReusableByteArrayOutputStream(WORK_BUFFER_SIZE));
+
+    private ByteBufferCopies() {
+    }
+
+    static <R> R read(ByteBuffer data, DocumentReader<R> reader) throws IOException {
+
+        ReusableByteArrayOutputStream copyBuffer = copyBuffers.get();
+        try {
+            int length = data.remaining();
+            byte[] buffer = copyBuffer.ensureCapacity(length);
+            data.duplicate().get(buffer, 0, length);
+            return reader.read(buffer, 0, length);
+        } finally {
+            copyBuffer.trimTo(MAX_RETAINED_BUFFER_SIZE, WORK_BUFFER_SIZE);
+        }
+    }
+}
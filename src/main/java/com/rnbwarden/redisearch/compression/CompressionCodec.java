@@ -0,0 +1,16 @@
+package com.rnbwarden.redisearch.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Compresses and decompresses the payload that follows the {@link CompressionType} header byte of a stored document.
+ */
+public interface CompressionCodec {
+
+    CompressionType getType();
+
+    void compress(byte[] data, OutputStream out) throws IOException;
+
+    byte[] decompress(byte[] data, int offset, int length) throws IOException;
+}
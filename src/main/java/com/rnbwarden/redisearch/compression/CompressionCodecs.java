@@ -0,0 +1,44 @@
+package com.rnbwarden.redisearch.compression;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Lookup of the {@link CompressionCodec} for a {@link CompressionType}.
+ *
+ * Codecs are created on first use so that the LZ4 and Zstandard libraries only need to be on the classpath when one of
+ * those types is actually written or read.
+ */
+public final class CompressionCodecs {
+
+    private static final Map<CompressionType, CompressionCodec> codecs = new EnumMap<>(CompressionType.class);
+
+    private CompressionCodecs() {
+
+    }
+
+    public static synchronized CompressionCodec get(CompressionType compressionType) {
+
+        return codecs.computeIfAbsent(compressionType, CompressionCodecs::create);
+    }
+
+    private static CompressionCodec create(CompressionType compressionType) {
+
+        switch (compressionType) {
+            case NONE:
+                return new NoCompressionCodec();
+            case GZIP:
+                return new GzipCompressionCodec();
+            case LZ4:
+                return new Lz4CompressionCodec();
+            case ZSTD:
+                return new ZstdCompressionCodec();
+            case DEFLATE:
+                return new DeflateCompressionCodec();
+            case ZSTD_DICTIONARY:
+                throw new IllegalArgumentException("ZSTD_DICTIONARY documents can only be read with the codec of their own index");
+            default:
+                throw new IllegalArgumentException("Unsupported compression type: " + compressionType);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.rnbwarden.redisearch.compression;
+
+import static java.lang.String.format;
+
+/**
+ * Versioned storage of the compression dictionary trained for an index.
+ *
+ * Dictionaries are kept next to the index under '{index}.dictionary:{version}'. Old versions are never overwritten so
+ * documents compressed with them remain readable.
+ */
+public interface CompressionDictionaryStore {
+
+    /**
+     * @return the version of the dictionary new documents should be compressed with, or null if none was trained yet
+     */
+    Integer getCurrentVersion();
+
+    byte[] getDictionary(int version);
+
+    /**
+     * Stores the dictionary under a new version and makes it the current one.
+     *
+     * @return the new version
+     */
+    int saveDictionary(byte[] dictionary);
+
+    static String getDictionaryKey(String index, int version) {
+
+        return format("%s.dictionary:%d", index, version);
+    }
+
+    static String getCurrentVersionKey(String index) {
+
+        return format("%s.dictionary:current", index);
+    }
+
+    static String getVersionSequenceKey(String index) {
+
+        return format("%s.dictionary:sequence", index);
+    }
+}
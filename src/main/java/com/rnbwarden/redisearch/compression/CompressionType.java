@@ -0,0 +1,45 @@
+package com.rnbwarden.redisearch.compression;
+
+import static java.lang.String.format;
+
+/**
+ * Compression applied to the serialized document (sdoc) stored for each entity.
+ *
+ * Every compressed blob starts with the header byte of the type used to write it, so documents written with different
+ * types can be read side by side while an index is migrated from one type to another. GZIP blobs are written without it,
+ * as they are identified by the gzip magic number, so releases that predate the header byte can still read them.
+ */
+public enum CompressionType {
+
+    NONE((byte) 0x00),
+    GZIP((byte) 0x01),
+    LZ4((byte) 0x02),
+    ZSTD((byte) 0x03),
+    DEFLATE((byte) 0x04),
+    /**
+     * Zstandard with a dictionary trained per index. See {@link ZstdDictionaryCompressionCodec}.
+     */
+    ZSTD_DICTIONARY((byte) 0x05);
+
+    private final byte header;
+
+    CompressionType(byte header) {
+
+        this.header = header;
+    }
+
+    public byte getHeader() {
+
+        return header;
+    }
+
+    public static CompressionType forHeader(byte header) {
+
+        for (CompressionType compressionType : values()) {
+            if (compressionType.header == header) {
+                return compressionType;
+            }
+        }
+        throw new IllegalArgumentException(format("Unknown compression header: 0x%02x", header));
+    }
+}
@@ -0,0 +1,253 @@
+package com.rnbwarden.redisearch.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Raw DEFLATE compression that avoids intermediate copies of the document.
+ *
+ * The payload is the uncompressed length (4 bytes, big endian) followed by a raw DEFLATE stream. Documents are
+ * compressed while Jackson writes them and are inflated into a buffer pre-sized from the stored length. Deflaters,
+ * Inflaters and work buffers are pooled per thread.
+ *
+ * Documents smaller than the uncompressed threshold are held back and stored as {@link CompressionType#NONE}.
+ */
+public class DeflateCompressionCodec implements StreamingCompressionCodec {
+
+    private static final int WORK_BUFFER_SIZE = 8192;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private final ThreadLocal<Deflater> deflaters;
+    private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(() -> new Inflater(true));
+    private final ThreadLocal<DeflatingOutputStream> outputStreams = ThreadLocal.withInitial(DeflatingOutputStream::new);
+    private final ThreadLocal<ReusableByteArrayOutputStream> documentBuffers = ThreadLocal.withInitial(() -> new ReusableByteArrayOutputStream(WORK_BUFFER_SIZE));
+    private final ThreadLocal<ReusableByteArrayOutputStream> rawBuffers = ThreadLocal.withInitial(() -> new ReusableByteArrayOutputStream(WORK_BUFFER_SIZE));
+    private final ThreadLocal<ReusableByteArrayOutputStream> inflateBuffers = ThreadLocal.withInitial(() -> new ReusableByteArrayOutputStream(WORK_BUFFER_SIZE));
+
+    public DeflateCompressionCodec() {
+
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    public DeflateCompressionCodec(int level) {
+
+        this.deflaters = ThreadLocal.withInitial(() -> new Deflater(level, true));
+    }
+
+    @Override
+    public CompressionType getType() {
+
+        return CompressionType.DEFLATE;
+    }
+
+    @Override
+    public void compress(byte[] data, OutputStream out) throws IOException {
+
+        byte[] lengthPrefix = new byte[Integer.BYTES];
+        LengthPrefix.write(data.length, lengthPrefix, 0);
+        out.write(lengthPrefix);
+
+        DeflatingOutputStream deflatingOutputStream = outputStreams.get().reset(deflaters.get(), out, null, 0);
+        deflatingOutputStream.write(data, 0, data.length);
+        deflatingOutputStream.finish();
+    }
+
+    @Override
+    public byte[] compress(DocumentWriter writer, int uncompressedThreshold) throws IOException {
+
+        ReusableByteArrayOutputStream document = documentBuffers.get();
+        ReusableByteArrayOutputStream raw = rawBuffers.get();
+        try {
+            document.write(getType().getHeader());
+            document.write(new byte[Integer.BYTES], 0, Integer.BYTES); //uncompressed length, patched below
+
+            Deflater deflater = deflaters.get();
+            DeflatingOutputStream deflatingOutputStream = outputStreams.get().reset(deflater, document, raw, uncompressedThreshold);
+            writer.writeTo(deflatingOutputStream);
+            if (!deflatingOutputStream.finish()) {
+                return NoCompressionCodec.createDocument(raw.getBuffer(), 0, raw.size());
+            }
+
+            LengthPrefix.write(Math.toIntExact(deflater.getBytesRead()), document.getBuffer(), 1);
+            return document.toByteArray();
+        } finally {
+            document.trimTo(MAX_RETAINED_BUFFER_SIZE, WORK_BUFFER_SIZE);
+            raw.trimTo(MAX_RETAINED_BUFFER_SIZE, WORK_BUFFER_SIZE);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int offset, int length) throws IOException {
+
+        byte[] decompressed = new byte[LengthPrefix.read(data, offset, length)];
+        inflate(data, offset, length, decompressed);
+        return decompressed;
+    }
+
+    @Override
+    public <R> R decompress(byte[] data, int offset, int length, DocumentReader<R> reader) throws IOException {
+
+        ReusableByteArrayOutputStream inflateBuffer = inflateBuffers.get();
+        try {
+            byte[] buffer = inflateBuffer.ensureCapacity(LengthPrefix.read(data, offset, length));
+            int decompressedLength = inflate(data, offset, length, buffer);
+            return reader.read(buffer, 0, decompressedLength);
+        } finally {
+            inflateBuffer.trimTo(MAX_RETAINED_BUFFER_SIZE, WORK_BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * Direct buffers (ex: Lettuce reply buffers) are inflated in place rather than copied into an array first.
+     */
+    @Override
+    public <R> R decompress(ByteBuffer data, DocumentReader<R> reader) throws IOException {
+
+        if (data.hasArray()) {
+            return decompress(data.array(), data.arrayOffset() + data.position(), data.remaining(), reader);
+        }
+        ReusableByteArrayOutputStream inflateBuffer = inflateBuffers.get();
+        try {
+            int uncompressedLength = LengthPrefix.read(data);
+            byte[] buffer = inflateBuffer.ensureCapacity(uncompressedLength);
+            Inflater inflater = inflaters.get();
+            inflater.reset();
+            ByteBuffer payload = data.duplicate();
+            payload.position(data.position() + Integer.BYTES);
+            inflater.setInput(payload);
+            int decompressedLength = inflate(inflater, uncompressedLength, buffer);
+            return reader.read(buffer, 0, decompressedLength);
+        } finally {
+            inflateBuffer.trimTo(MAX_RETAINED_BUFFER_SIZE, WORK_BUFFER_SIZE);
+        }
+    }
+
+    private int inflate(byte[] data, int offset, int length, byte[] dest) throws IOException {
+
+        int uncompressedLength = LengthPrefix.read(data, offset, length);
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+        inflater.setInput(data, offset + Integer.BYTES, length - Integer.BYTES);
+        return inflate(inflater, uncompressedLength, dest);
+    }
+
+    private int inflate(Inflater inflater, int uncompressedLength, byte[] dest) throws IOException {
+
+        try {
+            int inflated = 0;
+            while (inflated < uncompressedLength) {
+                int n = inflater.inflate(dest, inflated, uncompressedLength - inflated);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += n;
+            }
+            if (inflated != uncompressedLength) {
+                throw new IOException("Truncated DEFLATE payload. Expected: " + uncompressedLength + ", inflated: " + inflated);
+            }
+            return inflated;
+        } catch (DataFormatException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Reusable replacement for DeflaterOutputStream that neither allocates its own buffer nor ends the Deflater.
+     * Closing it is a no-op so that writers (ex: Jackson) may close it; {@link #finish()} completes the stream.
+     *
+     * Until rawThreshold bytes have been written they are only collected in the raw buffer, so that a small document
+     * is never run through the Deflater.
+     */
+    private static class DeflatingOutputStream extends OutputStream {
+
+        private final byte[] buffer = new byte[WORK_BUFFER_SIZE];
+        private final byte[] single = new byte[1];
+        private Deflater deflater;
+        private OutputStream out;
+        private ReusableByteArrayOutputStream raw;
+        private int rawThreshold;
+        private boolean deflating;
+
+        DeflatingOutputStream reset(Deflater deflater, OutputStream out, ReusableByteArrayOutputStream raw, int rawThreshold) {
+
+            deflater.reset();
+            this.deflater = deflater;
+            this.out = out;
+            this.raw = raw;
+            this.rawThreshold = rawThreshold;
+            this.deflating = raw == null || rawThreshold <= 0;
+            return this;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+
+            single[0] = (byte) b;
+            write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+
+            if (len == 0) {
+                return;
+            }
+            if (!deflating) {
+                if (raw.size() + len < rawThreshold) {
+                    raw.write(b, off, len);
+                    return;
+                }
+                deflating = true;
+                if (raw.size() > 0) {
+                    deflate(raw.getBuffer(), 0, raw.size());
+                }
+            }
+            deflate(b, off, len);
+        }
+
+        /**
+         * @return false if the document stayed below the raw threshold and was never deflated
+         */
+        boolean finish() throws IOException {
+
+            try {
+                if (!deflating) {
+                    return false;
+                }
+                deflater.finish();
+                while (!deflater.finished()) {
+                    deflate();
+                }
+                return true;
+            } finally {
+                out = null;
+                raw = null;
+            }
+        }
+
+        private void deflate(byte[] b, int off, int len) throws IOException {
+
+            deflater.setInput(b, off, len);
+            while (!deflater.needsInput()) {
+                deflate();
+            }
+        }
+
+        private void deflate() throws IOException {
+
+            int n = deflater.deflate(buffer, 0, buffer.length);
+            if (n > 0) {
+                out.write(buffer, 0, n);
+            }
+        }
+
+        @Override
+        public void close() {
+
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.rnbwarden.redisearch.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class GzipCompressionCodec implements CompressionCodec {
+
+    private static final int WORK_BUFFER_SIZE = 8192;
+
+    @Override
+    public CompressionType getType() {
+
+        return CompressionType.GZIP;
+    }
+
+    @Override
+    public void compress(byte[] data, OutputStream out) throws IOException {
+
+        try (GZIPOutputStream gzos = new GZIPOutputStream(out, WORK_BUFFER_SIZE)) {
+            gzos.write(data);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int offset, int length) throws IOException {
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(WORK_BUFFER_SIZE);
+        final byte[] buffer = new byte[WORK_BUFFER_SIZE];
+
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(data, offset, length);
+             GZIPInputStream gzis = new GZIPInputStream(bais, WORK_BUFFER_SIZE)) {
+            int n;
+            while (-1 != (n = gzis.read(buffer))) {
+                baos.write(buffer, 0, n);
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Documents written before compression headers were introduced are bare GZIP streams.
+     */
+    public static boolean isHeaderlessGzip(byte[] data) {
+
+        return isHeaderlessGzip(data, 0, data.length);
+    }
+
+    public static boolean isHeaderlessGzip(byte[] data, int offset, int length) {
+
+        return length > 1
+                && data[offset] == (byte) GZIPInputStream.GZIP_MAGIC
+                && data[offset + 1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+    public static boolean isHeaderlessGzip(ByteBuffer data) {
+
+        int position = data.position();
+        return data.remaining() > 1
+                && data.get(position) == (byte) GZIPInputStream.GZIP_MAGIC
+                && data.get(position + 1) == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+}
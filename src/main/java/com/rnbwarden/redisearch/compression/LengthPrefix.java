@@ -0,0 +1,61 @@
+package com.rnbwarden.redisearch.compression;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads and writes the 4 byte (big endian) uncompressed length that prefixes block compressed payloads.
+ */
+final class LengthPrefix {
+
+    /**
+     * The largest Redis string, so a larger length can only come from a corrupt payload, which must not be allocated
+     */
+    static final int MAX_LENGTH = 512 * 1024 * 1024;
+
+    private LengthPrefix() {
+
+    }
+
+    static void write(int value, byte[] dest, int offset) {
+
+        dest[offset] = (byte) (value >>> 24);
+        dest[offset + 1] = (byte) (value >>> 16);
+        dest[offset + 2] = (byte) (value >>> 8);
+        dest[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Reads the prefix at the buffer's position without changing it.
+     */
+    static int read(ByteBuffer src) throws IOException {
+
+        if (src.remaining() < Integer.BYTES) {
+            throw new IOException("Compressed payload is missing its length prefix");
+        }
+        int position = src.position();
+        int value = ((src.get(position) & 0xff) << 24)
+                | ((src.get(position + 1) & 0xff) << 16)
+                | ((src.get(position + 2) & 0xff) << 8)
+                | (src.get(position + 3) & 0xff);
+        if (value < 0 || value > MAX_LENGTH) {
+            throw new IOException("Invalid uncompressed length: " + value);
+        }
+        return value;
+    }
+
+    static int read(byte[] src, int offset, int length) throws IOException {
+
+        if (length < Integer.BYTES) {
+            throw new IOException("Compressed payload is missing its length prefix");
+        }
+        int value = ((src[offset] & 0xff) << 24)
+                | ((src[offset + 1] & 0xff) << 16)
+                | ((src[offset + 2] & 0xff) << 8)
+                | (src[offset + 3] & 0xff);
+        if (value < 0 || value > MAX_LENGTH) {
+            throw new IOException("Invalid uncompressed length: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,49 @@
+package com.rnbwarden.redisearch.compression;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * LZ4 block compression. The payload is the uncompressed length (4 bytes, big endian) followed by the LZ4 block.
+ *
+ * Requires 'org.lz4:lz4-java' on the classpath.
+ */
+public class Lz4CompressionCodec implements CompressionCodec {
+
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public Lz4CompressionCodec() {
+
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public CompressionType getType() {
+
+        return CompressionType.LZ4;
+    }
+
+    @Override
+    public void compress(byte[] data, OutputStream out) throws IOException {
+
+        byte[] compressed = new byte[Integer.BYTES + compressor.maxCompressedLength(data.length)];
+        LengthPrefix.write(data.length, compressed, 0);
+        int compressedLength = compressor.compress(data, 0, data.length, compressed, Integer.BYTES);
+        out.write(compressed, 0, Integer.BYTES + compressedLength);
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int offset, int length) throws IOException {
+
+        byte[] decompressed = new byte[LengthPrefix.read(data, offset, length)];
+        decompressor.decompress(data, offset + Integer.BYTES, decompressed, 0, decompressed.length);
+        return decompressed;
+    }
+}
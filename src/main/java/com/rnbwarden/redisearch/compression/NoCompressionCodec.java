@@ -0,0 +1,54 @@
+package com.rnbwarden.redisearch.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Stores the document as is. Used for documents below the compression threshold, where compressing costs CPU on every
+ * read and write without saving space.
+ */
+public class NoCompressionCodec implements StreamingCompressionCodec {
+
+    @Override
+    public CompressionType getType() {
+
+        return CompressionType.NONE;
+    }
+
+    @Override
+    public void compress(byte[] data, OutputStream out) throws IOException {
+
+        out.write(data);
+    }
+
+    @Override
+    public byte[] compress(DocumentWriter writer, int uncompressedThreshold) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(getType().getHeader());
+        writer.writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int offset, int length) {
+
+        return Arrays.copyOfRange(data, offset, offset + length);
+    }
+
+    @Override
+    public <R> R decompress(byte[] data, int offset, int length, DocumentReader<R> reader) throws IOException {
+
+        return reader.read(data, offset, length);
+    }
+
+    static byte[] createDocument(byte[] data, int offset, int length) {
+
+        byte[] document = new byte[length + 1];
+        document[0] = CompressionType.NONE.getHeader();
+        System.arraycopy(data, offset, document, 1, length);
+        return document;
+    }
+}
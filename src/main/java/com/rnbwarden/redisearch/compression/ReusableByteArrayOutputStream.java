@@ -0,0 +1,49 @@
+package com.rnbwarden.redisearch.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * ByteArrayOutputStream whose backing array can be reused and read in place.
+ */
+class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+
+    ReusableByteArrayOutputStream(int size) {
+
+        super(size);
+    }
+
+    byte[] getBuffer() {
+
+        return buf;
+    }
+
+    /**
+     * Grows the backing array (discarding its content) so that at least minCapacity bytes fit without resizing.
+     */
+    byte[] ensureCapacity(int minCapacity) {
+
+        if (buf.length < minCapacity) {
+            buf = new byte[minCapacity];
+        }
+        count = 0;
+        return buf;
+    }
+
+    /**
+     * Releases an oversized backing array so one unusually large document does not stay pinned to the thread.
+     */
+    void trimTo(int maxRetainedSize, int initialSize) {
+
+        if (buf.length > maxRetainedSize) {
+            buf = new byte[initialSize];
+        }
+        count = 0;
+    }
+
+    @Override
+    public synchronized byte[] toByteArray() {
+
+        return Arrays.copyOf(buf, count);
+    }
+}
@@ -0,0 +1,47 @@
+package com.rnbwarden.redisearch.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link CompressionCodec} that can compress a document while it is being written and hand the decompressed
+ * document to a reader without first copying it into a new array.
+ */
+public interface StreamingCompressionCodec extends CompressionCodec {
+
+    /**
+     * @param uncompressedThreshold documents smaller than this many bytes are stored as {@link CompressionType#NONE}
+     * @return the complete stored document, including the {@link CompressionType} header byte
+     */
+    byte[] compress(DocumentWriter writer, int uncompressedThreshold) throws IOException;
+
+    /**
+     * The buffer passed to the reader is only valid for the duration of the call.
+     */
+    <R> R decompress(byte[] data, int offset, int length, DocumentReader<R> reader) throws IOException;
+
+    /**
+     * Reads the payload between the buffer's position and limit without changing either. Heap buffers are read in
+     * place; direct buffers are copied into a reusable per-thread array unless the codec can read them directly.
+     */
+    default <R> R decompress(ByteBuffer data, DocumentReader<R> reader) throws IOException {
+
+        if (data.hasArray()) {
+            return decompress(data.array(), data.arrayOffset() + data.position(), data.remaining(), reader);
+        }
+        return ByteBufferCopies.read(data, (buffer, offset, length) -> decompress(buffer, offset, length, reader));
+    }
+
+    @FunctionalInterface
+    interface DocumentWriter {
+
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface DocumentReader<R> {
+
+        R read(byte[] buffer, int offset, int length) throws IOException;
+    }
+}
@@ -0,0 +1,67 @@
+package com.rnbwarden.redisearch.compression;
+
+import com.github.luben.zstd.Zstd;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.lang.String.format;
+
+/**
+ * Zstandard compression. The payload is the uncompressed length (4 bytes, big endian) followed by a Zstandard frame.
+ *
+ * Requires 'com.github.luben:zstd-jni' on the classpath.
+ */
+public class ZstdCompressionCodec implements CompressionCodec {
+
+    public static final int DEFAULT_LEVEL = 3;
+
+    private final int level;
+
+    public ZstdCompressionCodec() {
+
+        this(DEFAULT_LEVEL);
+    }
+
+    public ZstdCompressionCodec(int level) {
+
+        this.level = level;
+    }
+
+    @Override
+    public CompressionType getType() {
+
+        return CompressionType.ZSTD;
+    }
+
+    @Override
+    public void compress(byte[] data, OutputStream out) throws IOException {
+
+        byte[] compressed = new byte[Integer.BYTES + (int) Zstd.compressBound(data.length)];
+        LengthPrefix.write(data.length, compressed, 0);
+        long compressedLength = Zstd.compressByteArray(compressed, Integer.BYTES, compressed.length - Integer.BYTES,
+                data, 0, data.length, level);
+        checkResult(compressedLength);
+        out.write(compressed, 0, Integer.BYTES + (int) compressedLength);
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int offset, int length) throws IOException {
+
+        byte[] decompressed = new byte[LengthPrefix.read(data, offset, length)];
+        long decompressedLength = Zstd.decompressByteArray(decompressed, 0, decompressed.length,
+                data, offset + Integer.BYTES, length - Integer.BYTES);
+        checkResult(decompressedLength);
+        if (decompressedLength != decompressed.length) {
+            throw new IOException(format("Truncated Zstandard payload. Expected: %d, decompressed: %d", decompressed.length, decompressedLength));
+        }
+        return decompressed;
+    }
+
+    private static void checkResult(long result) throws IOException {
+
+        if (Zstd.isError(result)) {
+            throw new IOException("Zstandard error: " + Zstd.getErrorName(result));
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.rnbwarden.redisearch.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+/**
+ * Zstandard compression with a dictionary trained from the documents of a single index.
+ *
+ * Documents within an index share nearly identical JSON structure, so a trained dictionary removes most of the cost of
+ * repeated property names. The payload is the dictionary version (4 bytes), the uncompressed length (4 bytes) and a
+ * Zstandard frame compressed with that dictionary. Until a dictionary has been trained documents are written as plain
+ * {@link CompressionType#ZSTD}.
+ *
+ * Each index needs its own instance. Dictionaries are kept in a {@link CompressionDictionaryStore}; older versions are
+ * loaded on demand when a document compressed with them is read.
+ *
+ * Requires 'com.github.luben:zstd-jni' on the classpath.
+ */
+public class ZstdDictionaryCompressionCodec implements StreamingCompressionCodec {
+
+    private static final Logger logger = LoggerFactory.getLogger(ZstdDictionaryCompressionCodec.class);
+    private static final int WORK_BUFFER_SIZE = 8192;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final int PAYLOAD_PREFIX_LENGTH = 2 * Integer.BYTES;
+
+    private final int level;
+    private final ZstdCompressionCodec zstdCompressionCodec;
+    private final Map<Integer, ZstdDictDecompress> decompressDictionaries = new ConcurrentHashMap<>();
+    private final ThreadLocal<ReusableByteArrayOutputStream> documentBuffers = ThreadLocal.withInitial(() -> new ReusableByteArrayOutputStream(WORK_BUFFER_SIZE));
+    private final ThreadLocal<ReusableByteArrayOutputStream> decompressBuffers = ThreadLocal.withInitial(() -> new ReusableByteArrayOutputStream(WORK_BUFFER_SIZE));
+    private volatile CompressionDictionaryStore dictionaryStore;
+    private volatile CurrentDictionary currentDictionary;
+
+    public ZstdDictionaryCompressionCodec() {
+
+        this(ZstdCompressionCodec.DEFAULT_LEVEL);
+    }
+
+    public ZstdDictionaryCompressionCodec(int level) {
+
+        this.level = level;
+        this.zstdCompressionCodec = new ZstdCompressionCodec(level);
+    }
+
+    @Override
+    public CompressionType getType() {
+
+        return CompressionType.ZSTD_DICTIONARY;
+    }
+
+    public void setDictionaryStore(CompressionDictionaryStore dictionaryStore) {
+
+        this.dictionaryStore = dictionaryStore;
+    }
+
+    /**
+     * Loads the current dictionary from the store, if one has been trained.
+     */
+    public void loadCurrentDictionary() {
+
+        Integer version = getDictionaryStore().getCurrentVersion();
+        if (version == null) {
+            logger.info("No compression dictionary found. Documents will be compressed without one until a dictionary is trained.");
+            return;
+        }
+        setCurrentDictionary(version, getDictionaryStore().getDictionary(version));
+    }
+
+    /**
+     * Trains a dictionary from the given uncompressed documents, stores it as a new version and starts compressing with it.
+     *
+     * @return the new dictionary version
+     */
+    public int trainDictionary(List<byte[]> samples, int maxDictionarySize) {
+
+        byte[] dictionary = new byte[maxDictionarySize];
+        long dictionarySize = Zstd.trainFromBuffer(samples.toArray(new byte[0][]), dictionary);
+        if (Zstd.isError(dictionarySize)) {
+            throw new IllegalStateException(format("Unable to train compression dictionary from %d samples: %s", samples.size(), Zstd.getErrorName(dictionarySize)));
+        }
+        dictionary = Arrays.copyOf(dictionary, (int) dictionarySize);
+
+        int version = getDictionaryStore().saveDictionary(dictionary);
+        setCurrentDictionary(version, dictionary);
+        logger.info("Trained compression dictionary version {} ({} bytes) from {} samples", version, dictionarySize, samples.size());
+        return version;
+    }
+
+    public void setCurrentDictionary(int version, byte[] dictionary) {
+
+        decompressDictionaries.put(version, new ZstdDictDecompress(dictionary));
+        currentDictionary = new CurrentDictionary(version, new ZstdDictCompress(dictionary, level));
+    }
+
+    public Integer getCurrentVersion() {
+
+        CurrentDictionary dictionary = currentDictionary;
+        return dictionary == null ? null : dictionary.version;
+    }
+
+    @Override
+    public void compress(byte[] data, OutputStream out) throws IOException {
+
+        byte[] document = compress(data, 0, data.length, requireCurrentDictionary());
+        out.write(document, 1, document.length - 1);
+    }
+
+    @Override
+    public byte[] compress(DocumentWriter writer, int uncompressedThreshold) throws IOException {
+
+        ReusableByteArrayOutputStream document = documentBuffers.get();
+        try {
+            writer.writeTo(document);
+            if (document.size() < uncompressedThreshold) {
+                return NoCompressionCodec.createDocument(document.getBuffer(), 0, document.size());
+            }
+            CurrentDictionary dictionary = currentDictionary;
+            if (dictionary == null) {
+                return compressWithoutDictionary(document);
+            }
+            return compress(document.getBuffer(), 0, document.size(), dictionary);
+        } finally {
+            document.trimTo(MAX_RETAINED_BUFFER_SIZE, WORK_BUFFER_SIZE);
+        }
+    }
+
+    private byte[] compressWithoutDictionary(ReusableByteArrayOutputStream document) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(CompressionType.ZSTD.getHeader());
+        zstdCompressionCodec.compress(document.toByteArray(), out);
+        return out.toByteArray();
+    }
+
+    private byte[] compress(byte[] data, int offset, int length, CurrentDictionary dictionary) throws IOException {
+
+        int prefixLength = 1 + PAYLOAD_PREFIX_LENGTH;
+        byte[] compressed = new byte[prefixLength + (int) Zstd.compressBound(length)];
+        compressed[0] = getType().getHeader();
+        LengthPrefix.write(dictionary.version, compressed, 1);
+        LengthPrefix.write(length, compressed, 1 + Integer.BYTES);
+
+        long compressedLength = Zstd.compressFastDict(compressed, prefixLength, data, offset, length, dictionary.compressDictionary);
+        checkResult(compressedLength);
+        return Arrays.copyOf(compressed, prefixLength + (int) compressedLength);
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int offset, int length) throws IOException {
+
+        byte[] decompressed = new byte[getUncompressedLength(data, offset, length)];
+        decompress(data, offset, length, decompressed);
+        return decompressed;
+    }
+
+    @Override
+    public <R> R decompress(byte[] data, int offset, int length, DocumentReader<R> reader) throws IOException {
+
+        ReusableByteArrayOutputStream decompressBuffer = decompressBuffers.get();
+        try {
+            int uncompressedLength = getUncompressedLength(data, offset, length);
+            byte[] buffer = decompressBuffer.ensureCapacity(uncompressedLength);
+            decompress(data, offset, length, buffer);
+            return reader.read(buffer, 0, uncompressedLength);
+        } finally {
+            decompressBuffer.trimTo(MAX_RETAINED_BUFFER_SIZE, WORK_BUFFER_SIZE);
+        }
+    }
+
+    private int getUncompressedLength(byte[] data, int offset, int length) throws IOException {
+
+        if (length < PAYLOAD_PREFIX_LENGTH) {
+            throw new IOException("Compressed payload is missing its dictionary version");
+        }
+        return LengthPrefix.read(data, offset + Integer.BYTES, length - Integer.BYTES);
+    }
+
+    private void decompress(byte[] data, int offset, int length, byte[] dest) throws IOException {
+
+        int version = LengthPrefix.read(data, offset, length);
+        int uncompressedLength = getUncompressedLength(data, offset, length);
+        long decompressedLength = Zstd.decompressFastDict(dest, 0, data, offset + PAYLOAD_PREFIX_LENGTH,
+                length - PAYLOAD_PREFIX_LENGTH, getDecompressDictionary(version));
+        checkResult(decompressedLength);
+        if (decompressedLength != uncompressedLength) {
+            throw new IOException(format("Truncated Zstandard payload. Expected: %d, decompressed: %d", uncompressedLength, decompressedLength));
+        }
+    }
+
+    private ZstdDictDecompress getDecompressDictionary(int version) throws IOException {
+
+        ZstdDictDecompress dictionary = decompressDictionaries.get(version);
+        if (dictionary != null) {
+            return dictionary;
+        }
+        byte[] storedDictionary = getDictionaryStore().getDictionary(version);
+        if (storedDictionary == null) {
+            throw new IOException("Compression dictionary version " + version + " not found");
+        }
+        return decompressDictionaries.computeIfAbsent(version, v -> new ZstdDictDecompress(storedDictionary));
+    }
+
+    private CurrentDictionary requireCurrentDictionary() {
+
+        CurrentDictionary dictionary = currentDictionary;
+        if (dictionary == null) {
+            throw new IllegalStateException("No compression dictionary has been trained");
+        }
+        return dictionary;
+    }
+
+    private CompressionDictionaryStore getDictionaryStore() {
+
+        CompressionDictionaryStore store = dictionaryStore;
+        if (store == null) {
+            throw new IllegalStateException("No CompressionDictionaryStore configured");
+        }
+        return store;
+    }
+
+    private static void checkResult(long result) throws IOException {
+
+        if (Zstd.isError(result)) {
+            throw new IOException("Zstandard error: " + Zstd.getErrorName(result));
+        }
+    }
+
+    private static class CurrentDictionary {
+
+        private final int version;
+        private final ZstdDictCompress compressDictionary;
+
+        CurrentDictionary(int version, ZstdDictCompress compressDictionary) {
+
+            this.version = version;
+            this.compressDictionary = compressDictionary;
+        }
+    }
+}
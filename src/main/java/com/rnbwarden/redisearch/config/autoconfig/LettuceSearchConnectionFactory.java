@@ -0,0 +1,49 @@
+package com.rnbwarden.redisearch.config.autoconfig;
+
+import com.redislabs.lettusearch.RediSearchClient;
+import com.rnbwarden.redisearch.client.lettuce.LettuceSharedConnections;
+import io.lettuce.core.codec.RedisCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Holds the connections shared by the Lettuce clients of all indexes, when redis.search.lettuce.sharedConnection.stripes
+ * is set. Until then every client pools its own connections.
+ */
+public class LettuceSearchConnectionFactory implements DisposableBean {
+
+    @Autowired
+    private RediSearchClient rediSearchClient;
+
+    @Value("${redis.search.lettuce.sharedConnection.stripes:0}")
+    private int stripes;
+
+    private LettuceSharedConnections sharedConnections;
+
+    public boolean isSharedConnectionEnabled() {
+
+        return stripes > 0;
+    }
+
+    /**
+     * @param redisCodec the codec of the shared connections, which is fixed by the first caller, so must not depend on
+     *                   the index
+     */
+    public synchronized LettuceSharedConnections getSharedConnections(RedisCodec<String, Object> redisCodec) {
+
+        if (sharedConnections == null) {
+            sharedConnections = new LettuceSharedConnections(rediSearchClient, redisCodec, stripes);
+        }
+        return sharedConnections;
+    }
+
+    @Override
+    public synchronized void destroy() {
+
+        if (sharedConnections != null) {
+            sharedConnections.close();
+            sharedConnections = null;
+        }
+    }
+}
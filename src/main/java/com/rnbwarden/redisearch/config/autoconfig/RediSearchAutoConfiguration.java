@@ -2,6 +2,7 @@ package com.rnbwarden.redisearch.config.autoconfig;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -13,7 +14,7 @@ import org.springframework.context.annotation.Import;
  * {@link EnableAutoConfiguration Auto-configuration} for RediSearch.
  */
 @Configuration("RediSearchAutoConfiguration")
-@Import({RediSearchJedisClientAutoConfiguration.class, RediSearchLettuceClientAutoConfiguration.class})
+@Import({RediSearchJedisClientAutoConfiguration.class, RediSearchLettuceClientAutoConfiguration.class, RediSearchIndexInitializer.class})
 @EnableConfigurationProperties(RedisProperties.class)
 public class RediSearchAutoConfiguration {
 
@@ -30,4 +31,16 @@ public class RediSearchAutoConfiguration {
 
         return objectMapper;
     }
+
+    @Configuration("RediSearchHealthIndicatorConfiguration")
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+    static class RediSearchHealthIndicatorConfiguration {
+
+        @ConditionalOnMissingBean(name = "rediSearchHealthIndicator")
+        @Bean(name = "rediSearchHealthIndicator")
+        public RediSearchHealthIndicator rediSearchHealthIndicator(RediSearchIndexInitializer rediSearchIndexInitializer) {
+
+            return new RediSearchHealthIndicator(rediSearchIndexInitializer);
+        }
+    }
 }
\ No newline at end of file
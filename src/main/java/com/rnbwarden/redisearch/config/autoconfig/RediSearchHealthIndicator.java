@@ -0,0 +1,49 @@
+package com.rnbwarden.redisearch.config.autoconfig;
+
+import com.rnbwarden.redisearch.client.RediSearchClient;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reports the readiness of each index: UP once every index is ready, OUT_OF_SERVICE while any is still being
+ * initialized and DOWN if any failed. Include it in a readiness health group, e.g.
+ * management.endpoint.health.group.readiness.include=rediSearch
+ */
+public class RediSearchHealthIndicator extends AbstractHealthIndicator {
+
+    static final String READY = "READY";
+    static final String INITIALIZING = "INITIALIZING";
+
+    private final RediSearchIndexInitializer indexInitializer;
+
+    public RediSearchHealthIndicator(RediSearchIndexInitializer indexInitializer) {
+
+        super("RediSearch index initialization check failed");
+        this.indexInitializer = indexInitializer;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+
+        Status status = Status.UP;
+        for (Map.Entry<String, RediSearchClient<?>> client : indexInitializer.getClients().entrySet()) {
+            Optional<Throwable> failure = client.getValue().getIndexInitializationFailure();
+            if (failure.isPresent()) {
+                status = Status.DOWN;
+                builder.withDetail(client.getKey(), "FAILED: " + failure.get().getMessage());
+            } else if (client.getValue().isIndexReady()) {
+                builder.withDetail(client.getKey(), READY);
+            } else {
+                if (status == Status.UP) {
+                    status = Status.OUT_OF_SERVICE;
+                }
+                builder.withDetail(client.getKey(), INITIALIZING);
+            }
+        }
+        builder.status(status);
+    }
+}
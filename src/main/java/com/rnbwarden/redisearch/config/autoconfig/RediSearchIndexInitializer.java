@@ -0,0 +1,76 @@
+package com.rnbwarden.redisearch.config.autoconfig;
+
+import com.rnbwarden.redisearch.client.RediSearchClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Initializes the indexes of all clients concurrently on a bounded number of threads, so that startup does not wait for
+ * each index in turn, and tracks the clients so their readiness can be reported. With
+ * redis.search.indexInitialization.threads=0 each index is instead initialized as its client is created.
+ */
+public class RediSearchIndexInitializer implements DisposableBean {
+
+    @Value("${redis.search.indexInitialization.threads:4}")
+    private int threads;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final Map<String, RediSearchClient<?>> clients = new ConcurrentSkipListMap<>();
+    private ExecutorService executor;
+
+    /**
+     * @return the executor to initialize the indexes on, or null to initialize them on the calling thread
+     */
+    public synchronized Executor getExecutor() {
+
+        if (threads <= 0) {
+            return null;
+        }
+        if (executor == null) {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "rediSearch-index-init-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            executor = threadPoolExecutor;
+        }
+        return executor;
+    }
+
+    public void register(String index, RediSearchClient<?> client) {
+
+        clients.put(index, client);
+    }
+
+    public void unregister(String index) {
+
+        clients.remove(index);
+    }
+
+    /**
+     * @return the clients by index name
+     */
+    public Map<String, RediSearchClient<?>> getClients() {
+
+        return clients;
+    }
+
+    @Override
+    public synchronized void destroy() {
+
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -10,7 +10,7 @@ import org.springframework.context.annotation.Import;
 
 @Configuration("RediSearchLettuceClientAutoConfiguration")
 @ConditionalOnClass({RedisClient.class, com.redislabs.lettusearch.RediSearchClient.class})
-@Import(RediSearchAutoConfiguration.class)
+@Import({RediSearchAutoConfiguration.class, LettuceSearchConnectionFactory.class})
 public class RediSearchLettuceClientAutoConfiguration extends AbstractRediSearchClientAutoConfiguration {
 
     @Override
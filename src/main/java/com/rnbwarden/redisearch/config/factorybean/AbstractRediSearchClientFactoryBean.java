@@ -2,23 +2,55 @@ package com.rnbwarden.redisearch.config.factorybean;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.client.AbstractRediSearchClient;
 import com.rnbwarden.redisearch.client.RediSearchClient;
+import com.rnbwarden.redisearch.client.cache.CacheInvalidationChannel;
+import com.rnbwarden.redisearch.compression.CompressionType;
+import com.rnbwarden.redisearch.config.autoconfig.RediSearchIndexInitializer;
+import com.rnbwarden.redisearch.entity.RediSearchEntity;
+import com.rnbwarden.redisearch.format.DocumentFormat;
 import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.AbstractFactoryBean;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 public abstract class AbstractRediSearchClientFactoryBean<E extends RedisSearchableEntity> extends AbstractFactoryBean<RediSearchClient<E>> implements RediSearchClientFactoryBean {
 
     @Autowired
     @Qualifier("rediSearchObjectMapper")
     private ObjectMapper rediSearchObjectMapper;
 
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private RediSearchIndexInitializer rediSearchIndexInitializer;
+
     @Value("${redis.search.defaultResultLimit:1000000}")
     protected Long defaultMaxResults;
 
+    @Value("${redis.search.compressionThreshold:0}")
+    protected int compressionThreshold;
+
+    @Value("${redis.search.bulkBatchSize:" + AbstractRediSearchClient.DEFAULT_BULK_BATCH_SIZE + "}")
+    protected int bulkBatchSize;
+
+    @Value("${redis.search.queryCache.maxSize:0}")
+    protected int queryCacheMaxSize;
+
+    @Value("${redis.search.queryCache.ttlSeconds:60}")
+    protected long queryCacheTtlSeconds;
+
+    @Value("${redis.search.queryCache.publishInvalidations:true}")
+    protected boolean queryCachePublishInvalidations;
+
     protected Class<E> clazz;
 
     public void setClazz(Class<E> clazz) {
@@ -28,7 +60,53 @@ public abstract class AbstractRediSearchClientFactoryBean<E extends RedisSearcha
 
     RedisSerializer<E> createRedisSerializer() {
 
-        return new CompressingJacksonSerializer<>(clazz, rediSearchObjectMapper);
+        CompressingJacksonSerializer<E> serializer = new CompressingJacksonSerializer<>(clazz, rediSearchObjectMapper, getCompressionType(), getDocumentFormat());
+        serializer.setCompressionThreshold(compressionThreshold);
+        return serializer;
+    }
+
+    /**
+     * The property 'redis.search.compression.{index}' takes precedence over {@link RediSearchEntity#compression()}
+     */
+    CompressionType getCompressionType() {
+
+        CompressionType annotatedCompressionType = clazz.getAnnotation(RediSearchEntity.class).compression();
+        String propertyName = "redis.search.compression." + AbstractRediSearchClient.getIndex(clazz);
+        return environment.getProperty(propertyName, CompressionType.class, annotatedCompressionType);
+    }
+
+    /**
+     * The property 'redis.search.format.{index}' takes precedence over {@link RediSearchEntity#format()}
+     */
+    DocumentFormat getDocumentFormat() {
+
+        DocumentFormat annotatedDocumentFormat = clazz.getAnnotation(RediSearchEntity.class).format();
+        String propertyName = "redis.search.format." + AbstractRediSearchClient.getIndex(clazz);
+        return environment.getProperty(propertyName, DocumentFormat.class, annotatedDocumentFormat);
+    }
+
+    /**
+     * The property 'redis.search.queryCache.maxSize.{index}' takes precedence over 'redis.search.queryCache.maxSize'.
+     * The cache is disabled unless its size is positive, in which case writes are still published, so that other
+     * instances caching the index see them, unless redis.search.queryCache.publishInvalidations is false.
+     */
+    void configureQueryResultCache(AbstractRediSearchClient<E, ?> rediSearchClient, Supplier<CacheInvalidationChannel> invalidationChannelSupplier) {
+
+        String propertyName = "redis.search.queryCache.maxSize." + AbstractRediSearchClient.getIndex(clazz);
+        int maxSize = environment.getProperty(propertyName, Integer.class, queryCacheMaxSize);
+        if (maxSize > 0) {
+            rediSearchClient.enableQueryResultCache(maxSize, Duration.ofSeconds(queryCacheTtlSeconds), invalidationChannelSupplier.get());
+        } else if (queryCachePublishInvalidations) {
+            rediSearchClient.publishCacheInvalidations(invalidationChannelSupplier.get());
+        }
+    }
+
+    /**
+     * @return the executor to initialize the index on, or null to initialize it as the client is created
+     */
+    Executor getIndexInitializationExecutor() {
+
+        return rediSearchIndexInitializer.getExecutor();
     }
 
     @Override
@@ -40,7 +118,18 @@ public abstract class AbstractRediSearchClientFactoryBean<E extends RedisSearcha
     @Override
     protected com.rnbwarden.redisearch.client.RediSearchClient<E> createInstance() throws Exception {
 
-        return createRediSearchClient();
+        RediSearchClient<E> rediSearchClient = createRediSearchClient();
+        rediSearchIndexInitializer.register(AbstractRediSearchClient.getIndex(clazz), rediSearchClient);
+        return rediSearchClient;
+    }
+
+    @Override
+    protected void destroyInstance(RediSearchClient<E> instance) {
+
+        rediSearchIndexInitializer.unregister(AbstractRediSearchClient.getIndex(clazz));
+        if (instance instanceof AbstractRediSearchClient) {
+            ((AbstractRediSearchClient<E, ?>) instance).disableQueryResultCache();
+        }
     }
 
     abstract RediSearchClient<E> createRediSearchClient();
@@ -2,6 +2,8 @@ package com.rnbwarden.redisearch.config.factorybean;
 
 import com.rnbwarden.redisearch.client.AbstractRediSearchClient;
 import com.rnbwarden.redisearch.client.RediSearchClient;
+import com.rnbwarden.redisearch.client.jedis.JedisCacheInvalidationChannel;
+import com.rnbwarden.redisearch.client.jedis.JedisCompressionDictionaryStore;
 import com.rnbwarden.redisearch.client.jedis.JedisRediSearchClient;
 import com.rnbwarden.redisearch.config.autoconfig.JedisSearchConnectionFactory;
 import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
@@ -31,7 +33,13 @@ public class RediSearchJedisClientFactoryBean<E extends RedisSearchableEntity> e
 
         Client client = createClient();
         RedisSerializer<E> redisSerializer = createRedisSerializer();
-        return new JedisRediSearchClient<>(clazz, client, redisSerializer, defaultMaxResults);
+        String indexName = AbstractRediSearchClient.getIndex(clazz);
+        JedisCompressionDictionaryStore compressionDictionaryStore = new JedisCompressionDictionaryStore(indexName, jedisConnectionFactory);
+        JedisRediSearchClient<E> rediSearchClient = new JedisRediSearchClient<>(clazz, client, redisSerializer, defaultMaxResults, compressionDictionaryStore,
+                getIndexInitializationExecutor());
+        rediSearchClient.setBulkBatchSize(bulkBatchSize);
+        configureQueryResultCache(rediSearchClient, () -> new JedisCacheInvalidationChannel(indexName, jedisConnectionFactory));
+        return rediSearchClient;
     }
 
     private Client createClient() {
@@ -44,10 +52,4 @@ public class RediSearchJedisClientFactoryBean<E extends RedisSearchableEntity> e
         }
         return jedisSearchConnectionFactory.getClientForStandalone(indexName);
     }
-
-    @Override
-    protected RediSearchClient<E> createInstance() throws Exception {
-
-        return createRediSearchClient();
-    }
 }
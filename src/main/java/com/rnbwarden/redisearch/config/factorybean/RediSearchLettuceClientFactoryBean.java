@@ -1,41 +1,158 @@
 package com.rnbwarden.redisearch.config.factorybean;
 
 import com.redislabs.lettusearch.RediSearchClient;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.client.AbstractRediSearchClient;
+import com.rnbwarden.redisearch.client.lettuce.LettuceCacheInvalidationChannel;
+import com.rnbwarden.redisearch.client.lettuce.LettuceCursorConnectionPool;
 import com.rnbwarden.redisearch.client.lettuce.LettuceRediSearchClient;
+import com.rnbwarden.redisearch.client.lettuce.LettuceSharedConnections;
+import com.rnbwarden.redisearch.compression.CompressionType;
+import com.rnbwarden.redisearch.compression.GzipCompressionCodec;
+import com.rnbwarden.redisearch.config.autoconfig.LettuceSearchConnectionFactory;
 import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.codec.Utf8StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.stereotype.Component;
 
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static com.rnbwarden.redisearch.client.AbstractRediSearchClient.SERIALIZED_DOCUMENT;
 
 @Component
 public class RediSearchLettuceClientFactoryBean<E extends RedisSearchableEntity> extends AbstractRediSearchClientFactoryBean<E> {
 
+    private final Logger logger = LoggerFactory.getLogger(RediSearchLettuceClientFactoryBean.class);
     private final com.redislabs.lettusearch.RediSearchClient rediSearchClient;
+    private final LettuceSearchConnectionFactory lettuceSearchConnectionFactory;
+
+    @Value("${redis.search.lettuce.decodeDocuments:false}")
+    private boolean decodeDocuments;
+
+    @Value("${redis.search.lettuce.nearCache.maxSize:0}")
+    private int nearCacheMaxSize;
+
+    @Value("${redis.search.lettuce.nearCache.ttlSeconds:60}")
+    private long nearCacheTtlSeconds;
+
+    @Value("${redis.search.lettuce.cursorPool.maxTotal:" + LettuceCursorConnectionPool.DEFAULT_MAX_TOTAL + "}")
+    private int cursorPoolMaxTotal;
+
+    @Value("${redis.search.lettuce.cursorPool.maxWaitMillis:5000}")
+    private long cursorPoolMaxWaitMillis;
+
+    @Value("${redis.search.lettuce.cursorPool.abandonedTimeoutSeconds:300}")
+    private long cursorPoolAbandonedTimeoutSeconds;
+
+    @Value("${redis.search.lettuce.bloomFilter.expectedKeys:0}")
+    private long bloomFilterExpectedKeys;
+
+    @Value("${redis.search.lettuce.bloomFilter.falsePositiveProbability:0.01}")
+    private double bloomFilterFalsePositiveProbability;
+
+    @Value("${redis.search.lettuce.bloomFilter.rebuildIntervalMinutes:60}")
+    private long bloomFilterRebuildIntervalMinutes;
 
     @Autowired
-    public RediSearchLettuceClientFactoryBean(RediSearchClient rediSearchClient) {
+    public RediSearchLettuceClientFactoryBean(RediSearchClient rediSearchClient, LettuceSearchConnectionFactory lettuceSearchConnectionFactory) {
 
         this.rediSearchClient = rediSearchClient;
+        this.lettuceSearchConnectionFactory = lettuceSearchConnectionFactory;
     }
 
     @Override
     com.rnbwarden.redisearch.client.RediSearchClient<E> createRediSearchClient() {
 
         RedisSerializer<E> redisSerializer = createRedisSerializer();
-        RedisCodec<String, Object> redisCodec = new LettuceRedisCodec();
-        return new LettuceRediSearchClient<>(clazz, rediSearchClient, redisCodec, redisSerializer, defaultMaxResults);
+        boolean decodingDocuments = decodeDocuments && redisSerializer instanceof CompressingJacksonSerializer;
+        if (decodingDocuments && ((CompressingJacksonSerializer<E>) redisSerializer).getCompressionType() == CompressionType.ZSTD_DICTIONARY) {
+            //an unseen dictionary version would be loaded from redis on the connection's own event loop thread
+            logger.info("Not decoding documents of {} on the connection, as they are compressed with a dictionary", clazz.getSimpleName());
+            decodingDocuments = false;
+        }
+        Supplier<RedisCodec<String, Object>> redisCodecSupplier;
+        LettuceSharedConnections sharedConnections = null;
+        if (decodingDocuments) {
+            //a codec decoding documents tracks the reply being decoded, so each connection needs its own, and is bound
+            //to the entity type, so can not be shared with other indexes
+            CompressingJacksonSerializer<E> documentSerializer = (CompressingJacksonSerializer<E>) redisSerializer;
+            redisCodecSupplier = () -> new LettuceRedisCodec(documentSerializer);
+        } else {
+            RedisCodec<String, Object> redisCodec = new LettuceRedisCodec();
+            redisCodecSupplier = () -> redisCodec;
+            if (lettuceSearchConnectionFactory.isSharedConnectionEnabled()) {
+                sharedConnections = lettuceSearchConnectionFactory.getSharedConnections(redisCodec);
+            }
+        }
+        LettuceRediSearchClient<E> lettuceRediSearchClient = new LettuceRediSearchClient<>(clazz, rediSearchClient, redisCodecSupplier, redisSerializer,
+                defaultMaxResults, sharedConnections, getIndexInitializationExecutor());
+        lettuceRediSearchClient.setBulkBatchSize(bulkBatchSize);
+        String indexName = AbstractRediSearchClient.getIndex(clazz);
+        lettuceRediSearchClient.configureCursorConnectionPool(cursorPoolMaxTotal, Duration.ofMillis(cursorPoolMaxWaitMillis),
+                Duration.ofSeconds(cursorPoolAbandonedTimeoutSeconds));
+        configureQueryResultCache(lettuceRediSearchClient, () -> new LettuceCacheInvalidationChannel(indexName, rediSearchClient));
+        if (nearCacheMaxSize > 0) {
+            lettuceRediSearchClient.enableNearCache(nearCacheMaxSize, Duration.ofSeconds(nearCacheTtlSeconds));
+        }
+        if (bloomFilterExpectedKeys > 0) {
+            try {
+                lettuceRediSearchClient.enableNegativeLookupFilter(bloomFilterExpectedKeys, bloomFilterFalsePositiveProbability,
+                        Duration.ofMinutes(bloomFilterRebuildIntervalMinutes));
+            } catch (IllegalStateException e) {
+                logger.warn("Not enabling the Bloom filter of {}: {}", indexName, e.getMessage());
+            }
+        }
+        return lettuceRediSearchClient;
+    }
+
+    @Override
+    protected void destroyInstance(com.rnbwarden.redisearch.client.RediSearchClient<E> instance) {
+
+        super.destroyInstance(instance);
+        if (instance instanceof LettuceRediSearchClient) {
+            ((LettuceRediSearchClient<E>) instance).disableNearCache();
+            ((LettuceRediSearchClient<E>) instance).disableNegativeLookupFilter();
+        }
     }
 
+    /**
+     * By default values are decoded to byte[].
+     *
+     * When created with a document serializer, the serialized document (sdoc) is deserialized straight from the reply
+     * buffer, which Lettuce only guarantees for the duration of the decode call, instead of first being copied into a
+     * byte[]; all other values are decoded to Strings. This moves deserialization onto the connection's event loop
+     * thread. Such a codec tracks whether the next value is the document, so an instance must only be used by a single
+     * connection.
+     */
     public static class LettuceRedisCodec implements RedisCodec<String, Object> {
 
-        private ByteArrayCodec byteArrayCodec = new ByteArrayCodec();
-        private StringCodec stringCodec = new Utf8StringCodec();
+        private final ByteArrayCodec byteArrayCodec = new ByteArrayCodec();
+        private final StringCodec stringCodec = new Utf8StringCodec();
+        private final CompressingJacksonSerializer<?> documentSerializer;
+        /**
+         * Documents are decoded as alternating field name (key) and value, in order, on the connection's event loop
+         */
+        private boolean decodingDocument;
+
+        public LettuceRedisCodec() {
+
+            this(null);
+        }
+
+        public LettuceRedisCodec(CompressingJacksonSerializer<?> documentSerializer) {
+
+            this.documentSerializer = documentSerializer;
+        }
 
         @Override
         public ByteBuffer encodeKey(String key) {
@@ -46,7 +163,11 @@ public class RediSearchLettuceClientFactoryBean<E extends RedisSearchableEntity>
         @Override
         public String decodeKey(ByteBuffer bytes) {
 
-            return stringCodec.decodeKey(bytes);
+            String key = stringCodec.decodeKey(bytes);
+            if (documentSerializer != null) {
+                decodingDocument = SERIALIZED_DOCUMENT.equals(key);
+            }
+            return key;
         }
 
         @Override
@@ -61,7 +182,46 @@ public class RediSearchLettuceClientFactoryBean<E extends RedisSearchableEntity>
         @Override
         public Object decodeValue(ByteBuffer bytes) {
 
-            return byteArrayCodec.decodeValue(bytes);
+            if (documentSerializer == null) {
+                return byteArrayCodec.decodeValue(bytes);
+            }
+            boolean document = decodingDocument;
+            decodingDocument = false;
+            //a nil document is never passed to the codec, so the flag may still be set for a value of the next reply
+            if (!document || !isDocument(bytes)) {
+                return stringCodec.decodeValue(bytes);
+            }
+            if (bytes.get(bytes.position()) == CompressionType.ZSTD_DICTIONARY.getHeader()) {
+                //its dictionary may have to be loaded from redis, which must not block the event loop
+                return byteArrayCodec.decodeValue(bytes);
+            }
+            try {
+                return documentSerializer.deserialize(bytes);
+            } catch (SerializationException e) {
+                //leave it to the client to surface the failure on the calling thread
+                return byteArrayCodec.decodeValue(bytes);
+            }
+        }
+
+        /**
+         * Every serialized document starts with the header byte of its compression type, or the gzip magic number,
+         * neither of which start a text value
+         */
+        private static boolean isDocument(ByteBuffer bytes) {
+
+            if (!bytes.hasRemaining()) {
+                return false;
+            }
+            if (GzipCompressionCodec.isHeaderlessGzip(bytes)) {
+                return true;
+            }
+            byte header = bytes.get(bytes.position());
+            for (CompressionType compressionType : CompressionType.values()) {
+                if (compressionType.getHeader() == header) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 }
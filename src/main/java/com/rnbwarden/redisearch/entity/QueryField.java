@@ -6,11 +6,18 @@ import java.util.Collection;
 import java.util.List;
 
 import static java.util.Collections.singletonList;
-import static java.util.stream.Collectors.joining;
 
 public class QueryField<E> {
 
-    private static final String redisSpecialCharactersRegEx = "([,.<>{}\\[\\]\"':;!@#$%^&*()\\-+=~\\\\\\s]|[&|]{2})";
+    /**
+     * Characters escaped wherever they appear. '|' is only escaped when followed by '|' or '&' (the pair is escaped as
+     * one), and whitespace means the regex \s class: space, \t, \n, \x0B, \f and \r.
+     */
+    private static final boolean[] SPECIAL_CHARACTERS = new boolean[128];
+
+    static {
+        ",.<>{}[]\"':;!@#$%^&*()-+=~\\ \t\n\013\f\r".chars().forEach(c -> SPECIAL_CHARACTERS[c] = true);
+    }
 
     private SearchableField<E> field;
     private Collection<String> values;
@@ -50,17 +57,73 @@ public class QueryField<E> {
 
     public String getQuerySyntax() {
 
+        return appendQuerySyntax(new StringBuilder()).toString();
+    }
+
+    public StringBuilder appendQuerySyntax(StringBuilder sb) {
+
         Assert.notNull(operator, "SearchOperator cannot be null");
         Assert.notNull(values, "Values cannot be null");
 
-        String queryValueString = values.stream()
-                .map(QueryField::escapeSpecialCharacters)
-                .collect(joining(operator.getJoinString()));
-        return field.getQuerySyntax(queryValueString);
+        sb.append(field.getQuerySyntaxPrefix());
+        String joinString = operator.getJoinString();
+        boolean first = true;
+        for (String value : values) {
+            if (!first) {
+                sb.append(joinString);
+            }
+            escapeSpecialCharacters(value, sb);
+            first = false;
+        }
+        return sb.append(field.getQuerySyntaxSuffix());
     }
 
+    /**
+     * @return s itself when it contains nothing to escape
+     */
     public static String escapeSpecialCharacters(String s) {
 
-        return s.replaceAll(redisSpecialCharactersRegEx, "\\\\$1");
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            if (escapeLength(s, i, length) > 0) {
+                StringBuilder sb = new StringBuilder(length + 16).append(s, 0, i);
+                return escapeSpecialCharacters(s, i, length, sb).toString();
+            }
+        }
+        return s;
+    }
+
+    public static StringBuilder escapeSpecialCharacters(String s, StringBuilder sb) {
+
+        return escapeSpecialCharacters(s, 0, s.length(), sb);
+    }
+
+    private static StringBuilder escapeSpecialCharacters(String s, int start, int length, StringBuilder sb) {
+
+        int unescaped = start;
+        for (int i = start; i < length; i++) {
+            int escapeLength = escapeLength(s, i, length);
+            if (escapeLength > 0) {
+                sb.append(s, unescaped, i).append('\\').append(s, i, i + escapeLength);
+                i += escapeLength - 1;
+                unescaped = i + 1;
+            }
+        }
+        return sb.append(s, unescaped, length);
+    }
+
+    /**
+     * @return the number of characters at index i escaped by a single backslash, or 0 if none
+     */
+    private static int escapeLength(String s, int i, int length) {
+
+        char c = s.charAt(i);
+        if (c < SPECIAL_CHARACTERS.length && SPECIAL_CHARACTERS[c]) {
+            return 1;
+        }
+        if (c == '|' && i + 1 < length && (s.charAt(i + 1) == '|' || s.charAt(i + 1) == '&')) {
+            return 2;
+        }
+        return 0;
     }
 }
@@ -1,5 +1,8 @@
 package com.rnbwarden.redisearch.entity;
 
+import com.rnbwarden.redisearch.compression.CompressionType;
+import com.rnbwarden.redisearch.format.DocumentFormat;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -19,4 +22,15 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface RediSearchEntity {
 
     String name();
+
+    /**
+     * Compression applied to the serialized document. May be overridden with the property
+     * 'redis.search.compression.{name}'.
+     */
+    CompressionType compression() default CompressionType.GZIP;
+
+    /**
+     * Jackson dataformat of the serialized document. May be overridden with the property 'redis.search.format.{name}'.
+     */
+    DocumentFormat format() default DocumentFormat.JSON;
 }
\ No newline at end of file
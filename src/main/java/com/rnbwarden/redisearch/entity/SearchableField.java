@@ -8,6 +8,8 @@ public abstract class SearchableField<E> {
     protected final Function<E, String> serializeFunction;
     protected final String querySyntax;
     protected final boolean isSortable;
+    private final String querySyntaxPrefix;
+    private final String querySyntaxSuffix;
 
     public SearchableField(String name,
                            Function<E, String> serializeFunction,
@@ -18,6 +20,10 @@ public abstract class SearchableField<E> {
         this.serializeFunction = serializeFunction;
         this.querySyntax = querySyntax;
         this.isSortable = isSortable;
+
+        int valueIndex = querySyntax.indexOf("%s");
+        this.querySyntaxPrefix = valueIndex < 0 ? querySyntax : querySyntax.substring(0, valueIndex);
+        this.querySyntaxSuffix = valueIndex < 0 ? "" : querySyntax.substring(valueIndex + 2);
     }
 
     public String getName() {
@@ -25,6 +31,11 @@ public abstract class SearchableField<E> {
         return name;
     }
 
+    public boolean isSortable() {
+
+        return isSortable;
+    }
+
     public String serialize(E entity) {
 
         return serializeFunction.apply(entity);
@@ -32,6 +43,22 @@ public abstract class SearchableField<E> {
 
     public String getQuerySyntax(String value) {
 
-        return String.format(querySyntax, value);
+        return querySyntaxPrefix + value + querySyntaxSuffix;
+    }
+
+    /**
+     * The part of the query syntax before the value, ex: '{' for tag fields
+     */
+    public String getQuerySyntaxPrefix() {
+
+        return querySyntaxPrefix;
+    }
+
+    /**
+     * The part of the query syntax after the value, ex: '}' for tag fields
+     */
+    public String getQuerySyntaxSuffix() {
+
+        return querySyntaxSuffix;
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.rnbwarden.redisearch.format;
+
+/**
+ * Jackson dataformat used to encode the serialized document (before compression).
+ *
+ * The binary formats are written with their self-describing header, so the format of a stored document can be
+ * detected on read and documents written with a different format remain readable while an index is migrated.
+ */
+public enum DocumentFormat {
+
+    JSON,
+    /**
+     * Requires com.fasterxml.jackson.dataformat:jackson-dataformat-smile
+     */
+    SMILE,
+    /**
+     * Requires com.fasterxml.jackson.dataformat:jackson-dataformat-cbor
+     */
+    CBOR;
+
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+    private static final byte[] CBOR_HEADER = {(byte) 0xd9, (byte) 0xd9, (byte) 0xf7};
+
+    public static DocumentFormat detect(byte[] data, int offset, int length) {
+
+        if (startsWith(data, offset, length, SMILE_HEADER)) {
+            return SMILE;
+        }
+        if (startsWith(data, offset, length, CBOR_HEADER)) {
+            return CBOR;
+        }
+        return JSON;
+    }
+
+    private static boolean startsWith(byte[] data, int offset, int length, byte[] header) {
+
+        if (length < header.length) {
+            return false;
+        }
+        for (int i = 0; i < header.length; i++) {
+            if (data[offset + i] != header[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
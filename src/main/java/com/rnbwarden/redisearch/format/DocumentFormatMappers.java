@@ -0,0 +1,64 @@
+package com.rnbwarden.redisearch.format;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Creates {@link ObjectMapper}s for a {@link DocumentFormat} that share the configuration (features, modules, mix-ins)
+ * of the application's JSON ObjectMapper.
+ *
+ * The binary factories are created in nested classes so the optional dataformat modules are only loaded when used.
+ */
+public final class DocumentFormatMappers {
+
+    private DocumentFormatMappers() {
+    }
+
+    public static ObjectMapper create(DocumentFormat documentFormat, ObjectMapper objectMapper) {
+
+        switch (documentFormat) {
+            case JSON:
+                return objectMapper;
+            case SMILE:
+                return copy(objectMapper, Smile.createFactory());
+            case CBOR:
+                return copy(objectMapper, Cbor.createFactory());
+            default:
+                throw new IllegalArgumentException("Unsupported document format: " + documentFormat);
+        }
+    }
+
+    private static ObjectMapper copy(ObjectMapper source, JsonFactory jsonFactory) {
+
+        ObjectMapper copy = new ObjectMapper(jsonFactory, null, (DefaultDeserializationContext) source.getDeserializationContext());
+        copy.setSerializerFactory(source.getSerializerFactory());
+        copy.setConfig(source.getSerializationConfig());
+        copy.setConfig(source.getDeserializationConfig());
+        return copy;
+    }
+
+    private static class Smile {
+
+        static JsonFactory createFactory() {
+
+            return SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.WRITE_HEADER)
+                    .build();
+        }
+    }
+
+    private static class Cbor {
+
+        static JsonFactory createFactory() {
+
+            return CBORFactory.builder()
+                    .enable(CBORGenerator.Feature.WRITE_TYPE_HEADER)
+                    .build();
+        }
+    }
+}
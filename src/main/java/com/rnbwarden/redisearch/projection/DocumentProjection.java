@@ -0,0 +1,112 @@
+package com.rnbwarden.redisearch.projection;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads a set of dot separated property paths (ex: 'brand', 'skus', 'metadata.color') from a serialized document with
+ * Jackson's streaming parser.
+ *
+ * Properties that are not requested are skipped without being bound, and parsing stops as soon as every requested
+ * path has been read. Paths into arrays are not supported; request the array property itself instead.
+ */
+public class DocumentProjection {
+
+    private final PathNode root = new PathNode(null);
+    private final int pathCount;
+
+    public DocumentProjection(Collection<String> paths) {
+
+        paths.forEach(this::addPath);
+        this.pathCount = root.countPaths();
+    }
+
+    private void addPath(String path) {
+
+        if (path == null || path.isEmpty()) {
+            throw new IllegalArgumentException("Projection path must not be empty");
+        }
+        PathNode node = root;
+        for (String name : path.split("\\.")) {
+            String parentPath = node.path;
+            node = node.children.computeIfAbsent(name, n -> new PathNode(parentPath == null ? n : parentPath + "." + n));
+        }
+        node.requested = true;
+    }
+
+    /**
+     * @return the values found, keyed by path. Paths missing from the document are absent from the map.
+     */
+    public Map<String, JsonNode> read(ObjectMapper objectMapper, JsonParser parser) throws IOException {
+
+        Map<String, JsonNode> values = new HashMap<>();
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+            readObject(objectMapper, parser, root, values, pathCount);
+        }
+        return values;
+    }
+
+    private int readObject(ObjectMapper objectMapper, JsonParser parser, PathNode node, Map<String, JsonNode> values, int remaining) throws IOException {
+
+        while (remaining > 0 && parser.nextToken() == JsonToken.FIELD_NAME) {
+            PathNode child = node.children.get(parser.getCurrentName());
+            JsonToken token = parser.nextToken();
+            if (child == null) {
+                parser.skipChildren();
+            } else if (child.requested) {
+                JsonNode value = objectMapper.readTree(parser);
+                remaining -= child.collect(value, values);
+            } else if (token == JsonToken.START_OBJECT) {
+                remaining = readObject(objectMapper, parser, child, values, remaining);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return remaining;
+    }
+
+    private static class PathNode {
+
+        private final String path;
+        private final Map<String, PathNode> children = new LinkedHashMap<>();
+        private boolean requested;
+
+        private PathNode(String path) {
+
+            this.path = path;
+        }
+
+        private int countPaths() {
+
+            return (requested ? 1 : 0) + children.values().stream().mapToInt(PathNode::countPaths).sum();
+        }
+
+        /**
+         * Records the value of this (requested) path, along with any requested paths nested beneath it.
+         *
+         * @return the number of requested paths accounted for
+         */
+        private int collect(JsonNode value, Map<String, JsonNode> values) {
+
+            if (requested) {
+                values.put(path, value);
+            }
+            int collected = requested ? 1 : 0;
+            for (Map.Entry<String, PathNode> entry : children.entrySet()) {
+                JsonNode childValue = value.path(entry.getKey());
+                collected += childValue.isMissingNode() ?
+                        entry.getValue().countPaths() :
+                        entry.getValue().collect(childValue, values);
+            }
+            return collected;
+        }
+    }
+}
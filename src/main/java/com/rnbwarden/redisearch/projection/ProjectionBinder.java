@@ -0,0 +1,100 @@
+package com.rnbwarden.redisearch.projection;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Binds the top level properties of a document to a projection type.
+ *
+ * Interfaces are implemented with a proxy whose getters return the projected properties; classes (DTOs) are bound by
+ * Jackson from only the projected properties. Property names follow the ObjectMapper's introspection, so
+ * {@link com.fasterxml.jackson.annotation.JsonProperty} and naming strategies apply.
+ */
+public class ProjectionBinder<P> {
+
+    private final Class<P> projectionType;
+    private final DocumentProjection documentProjection;
+    private final Map<Method, String> getterProperties = new HashMap<>();
+
+    public ProjectionBinder(Class<P> projectionType, ObjectMapper objectMapper) {
+
+        this.projectionType = projectionType;
+
+        List<String> propertyNames;
+        if (projectionType.isInterface()) {
+            BeanDescription beanDescription = objectMapper.getSerializationConfig().introspect(objectMapper.constructType(projectionType));
+            beanDescription.findProperties().stream()
+                    .filter(BeanPropertyDefinition::hasGetter)
+                    .forEach(property -> getterProperties.put(property.getGetter().getAnnotated(), property.getName()));
+            propertyNames = List.copyOf(getterProperties.values());
+        } else {
+            BeanDescription beanDescription = objectMapper.getDeserializationConfig().introspect(objectMapper.constructType(projectionType));
+            propertyNames = beanDescription.findProperties().stream()
+                    .map(BeanPropertyDefinition::getName)
+                    .collect(toList());
+        }
+        if (propertyNames.isEmpty()) {
+            throw new IllegalArgumentException(format("Projection type %s has no properties", projectionType.getName()));
+        }
+        this.documentProjection = new DocumentProjection(propertyNames);
+    }
+
+    public DocumentProjection getDocumentProjection() {
+
+        return documentProjection;
+    }
+
+    public P bind(ObjectMapper objectMapper, Map<String, JsonNode> values) throws IOException {
+
+        if (projectionType.isInterface()) {
+            return createProxy(objectMapper, values);
+        }
+        ObjectNode objectNode = objectMapper.createObjectNode();
+        objectNode.setAll(values);
+        return objectMapper.treeToValue(objectNode, projectionType);
+    }
+
+    private P createProxy(ObjectMapper objectMapper, Map<String, JsonNode> values) throws IOException {
+
+        Map<String, Object> properties = new HashMap<>();
+        for (Map.Entry<Method, String> getterProperty : getterProperties.entrySet()) {
+            JavaType javaType = objectMapper.constructType(getterProperty.getKey().getGenericReturnType());
+            JsonNode value = values.getOrDefault(getterProperty.getValue(), NullNode.getInstance());
+            properties.put(getterProperty.getValue(), objectMapper.readerFor(javaType).readValue(value));
+        }
+
+        Object proxy = Proxy.newProxyInstance(projectionType.getClassLoader(), new Class<?>[]{projectionType}, (self, method, args) -> {
+            String propertyName = getterProperties.get(method);
+            if (propertyName != null) {
+                return properties.get(propertyName);
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return self == args[0];
+                case "hashCode":
+                    return Objects.hashCode(properties);
+                case "toString":
+                    return projectionType.getSimpleName() + properties;
+                default:
+                    throw new UnsupportedOperationException(format("%s is not a projected property of %s", method.getName(), projectionType.getName()));
+            }
+        });
+        return projectionType.cast(proxy);
+    }
+}
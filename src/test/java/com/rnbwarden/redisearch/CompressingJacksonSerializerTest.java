@@ -0,0 +1,315 @@
+package com.rnbwarden.redisearch;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.compression.CompressionDictionaryStore;
+import com.rnbwarden.redisearch.compression.CompressionType;
+import com.rnbwarden.redisearch.compression.ZstdDictionaryCompressionCodec;
+import com.rnbwarden.redisearch.entity.Brand;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import com.rnbwarden.redisearch.entity.SkuEntity;
+import com.rnbwarden.redisearch.format.DocumentFormat;
+import com.rnbwarden.redisearch.projection.DocumentProjection;
+import lombok.Data;
+import org.junit.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class CompressingJacksonSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ProductEntity product = new ProductEntity("id123", "FALCON01", Brand.NIKE,
+            List.of(new SkuEntity("f01", Map.of("color", "black", "price", "99.99")),
+                    new SkuEntity("f02", Map.of("color", "white", "price", "99.99"))));
+
+    @Test
+    public void testRoundTripForEachCompressionType() {
+
+        for (CompressionType compressionType : CompressionType.values()) {
+            if (compressionType == CompressionType.ZSTD_DICTIONARY) {
+                continue; //requires a trained dictionary, see testDictionaryRoundTrip
+            }
+            CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, compressionType);
+            byte[] bytes = serializer.serialize(product);
+            assertEquals(header(compressionType), bytes[0]);
+            assertEquals(product, serializer.deserialize(bytes));
+        }
+    }
+
+    /**
+     * GZIP is written without a header byte, so that releases before the header can read it
+     */
+    private static byte header(CompressionType compressionType) {
+
+        return compressionType == CompressionType.GZIP ? (byte) GZIPInputStream.GZIP_MAGIC : compressionType.getHeader();
+    }
+
+    @Test
+    public void testDefaultGzipIsReadableByGzipInputStream() throws Exception {
+
+        byte[] bytes = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper).serialize(product);
+
+        try (GZIPInputStream gzis = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            assertEquals(product, objectMapper.readValue(gzis, ProductEntity.class));
+        }
+    }
+
+    @Test
+    public void testRejectsZstdPayloadWithWrongLength() {
+
+        CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, CompressionType.ZSTD);
+        byte[] bytes = serializer.serialize(product);
+
+        byte[] longerPrefix = bytes.clone();
+        longerPrefix[4]++;
+        assertThrows(SerializationException.class, () -> serializer.deserialize(longerPrefix));
+
+        byte[] hugePrefix = bytes.clone();
+        hugePrefix[1] = 0x7f;
+        assertThrows(SerializationException.class, () -> serializer.deserialize(hugePrefix));
+    }
+
+    @Test
+    public void testReadsDocumentsWrittenWithOtherCompressionTypes() {
+
+        CompressingJacksonSerializer<ProductEntity> reader = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, CompressionType.ZSTD);
+        for (CompressionType compressionType : CompressionType.values()) {
+            byte[] bytes = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, compressionType).serialize(product);
+            assertEquals(product, reader.deserialize(bytes));
+        }
+    }
+
+    @Test
+    public void testStreamingRoundTripWithLargeAndSmallDocuments() {
+
+        ProductEntity largeProduct = new ProductEntity("id234", "BLAZE-X", Brand.ADIDAS,
+                IntStream.range(0, 20000)
+                        .mapToObj(i -> new SkuEntity("b" + i, Map.of("color", "red" + i, "price", i + ".99")))
+                        .collect(Collectors.toList()));
+
+        CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, CompressionType.DEFLATE);
+        byte[] largeBytes = serializer.serialize(largeProduct);
+        byte[] smallBytes = serializer.serialize(product);
+
+        assertEquals(largeProduct, serializer.deserialize(largeBytes));
+        assertEquals(product, serializer.deserialize(smallBytes));
+        assertEquals(largeProduct, serializer.deserialize(largeBytes));
+    }
+
+    @Test
+    public void testDocumentsBelowThresholdAreStoredUncompressed() {
+
+        for (CompressionType compressionType : List.of(CompressionType.GZIP, CompressionType.DEFLATE)) {
+            CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, compressionType);
+            serializer.setCompressionThreshold(1024);
+
+            byte[] bytes = serializer.serialize(product);
+            assertEquals(CompressionType.NONE.getHeader(), bytes[0]);
+            assertEquals(product, serializer.deserialize(bytes));
+
+            serializer.setCompressionThreshold(16);
+            bytes = serializer.serialize(product);
+            assertEquals(header(compressionType), bytes[0]);
+            assertEquals(product, serializer.deserialize(bytes));
+        }
+    }
+
+    @Test
+    public void testRoundTripForEachDocumentFormat() {
+
+        for (DocumentFormat documentFormat : DocumentFormat.values()) {
+            CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, CompressionType.NONE, documentFormat);
+            byte[] bytes = serializer.serialize(product);
+            assertEquals(documentFormat, DocumentFormat.detect(bytes, 1, bytes.length - 1));
+            assertEquals(product, serializer.deserialize(bytes));
+        }
+    }
+
+    @Test
+    public void testReadsDocumentsWrittenWithOtherDocumentFormats() {
+
+        for (DocumentFormat readFormat : DocumentFormat.values()) {
+            CompressingJacksonSerializer<ProductEntity> reader = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, CompressionType.DEFLATE, readFormat);
+            for (DocumentFormat writeFormat : DocumentFormat.values()) {
+                byte[] bytes = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, CompressionType.GZIP, writeFormat).serialize(product);
+                assertEquals(product, reader.deserialize(bytes));
+            }
+        }
+    }
+
+    @Test
+    public void testBinaryDocumentFormatsShareObjectMapperConfiguration() throws Exception {
+
+        ObjectMapper lenientObjectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        CompressingJacksonSerializer<SkuEntity> serializer = new CompressingJacksonSerializer<>(SkuEntity.class, lenientObjectMapper, CompressionType.NONE, DocumentFormat.SMILE);
+
+        Map<String, Object> skuWithUnknownProperty = Map.of("key", "f01", "unknown", "value");
+        byte[] smile = new CompressingJacksonSerializer<>(Map.class, objectMapper, CompressionType.NONE, DocumentFormat.SMILE).serialize(skuWithUnknownProperty);
+
+        assertEquals("f01", serializer.deserialize(smile).getKey());
+    }
+
+    @Test
+    public void testInterfaceAndClassProjections() {
+
+        for (DocumentFormat documentFormat : DocumentFormat.values()) {
+            CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, CompressionType.DEFLATE, documentFormat);
+            byte[] bytes = serializer.serialize(product);
+
+            ProductSummary summary = serializer.deserialize(bytes, ProductSummary.class);
+            assertEquals("id123", summary.getId());
+            assertEquals(Brand.NIKE, summary.getBrand());
+
+            ProductSkus productSkus = serializer.deserialize(bytes, ProductSkus.class);
+            assertEquals(product.getSkus(), productSkus.getSkus());
+        }
+    }
+
+    @Test
+    public void testPathProjectionStopsReadingOnceAllPathsAreFound() {
+
+        CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, CompressionType.NONE);
+        byte[] bytes = serializer.serialize(product);
+        String json = new String(bytes, 1, bytes.length - 1);
+        byte[] truncated = Arrays.copyOf(bytes, json.indexOf("\"skus\"") + 1);
+
+        Map<String, JsonNode> values = serializer.deserialize(truncated, new DocumentProjection(List.of("id", "brand")));
+        assertEquals(2, values.size());
+        assertEquals("id123", values.get("id").asText());
+        assertEquals("NIKE", values.get("brand").asText());
+    }
+
+    @Test
+    public void testNestedPathProjection() {
+
+        CompressingJacksonSerializer<SkuEntity> serializer = new CompressingJacksonSerializer<>(SkuEntity.class, objectMapper, CompressionType.GZIP);
+        byte[] bytes = serializer.serialize(product.getSkus().get(0));
+
+        Map<String, JsonNode> values = serializer.deserialize(bytes, new DocumentProjection(List.of("attributes.color", "attributes.size", "key")));
+        assertEquals(2, values.size());
+        assertEquals("black", values.get("attributes.color").asText());
+        assertEquals("f01", values.get("key").asText());
+    }
+
+    @Test
+    public void testReadsDirectAndHeapByteBuffers() {
+
+        for (CompressionType compressionType : List.of(CompressionType.NONE, CompressionType.GZIP, CompressionType.LZ4, CompressionType.DEFLATE)) {
+            CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, compressionType);
+            byte[] bytes = serializer.serialize(product);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 2);
+            direct.put((byte) 'x').put(bytes).put((byte) 'x');
+            direct.position(1).limit(bytes.length + 1);
+            assertEquals(product, serializer.deserialize(direct));
+            assertEquals(1, direct.position());
+
+            byte[] padded = new byte[bytes.length + 2];
+            System.arraycopy(bytes, 0, padded, 1, bytes.length);
+            assertEquals(product, serializer.deserialize(ByteBuffer.wrap(padded, 1, bytes.length)));
+        }
+    }
+
+    @Test
+    public void testReadsHeaderlessGzipDocuments() throws Exception {
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzos = new GZIPOutputStream(baos)) {
+            gzos.write(objectMapper.writeValueAsBytes(product));
+        }
+
+        CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper);
+        assertEquals(product, serializer.deserialize(baos.toByteArray()));
+    }
+
+    @Test
+    public void testDictionaryRoundTrip() {
+
+        InMemoryDictionaryStore store = new InMemoryDictionaryStore();
+        ZstdDictionaryCompressionCodec codec = new ZstdDictionaryCompressionCodec();
+        codec.setDictionaryStore(store);
+        CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, codec);
+
+        byte[] withoutDictionary = serializer.serialize(product);
+        assertEquals(CompressionType.ZSTD.getHeader(), withoutDictionary[0]);
+
+        List<byte[]> samples = IntStream.range(0, 1000)
+                .mapToObj(i -> new ProductEntity("id" + i, "STYLE" + i, Brand.values()[i % Brand.values().length],
+                        List.of(new SkuEntity("s" + i, Map.of("color", "black", "price", i + ".99")))))
+                .map(serializer::serializeUncompressed)
+                .collect(Collectors.toList());
+        int version = codec.trainDictionary(samples, 4096);
+        assertEquals(1, version);
+
+        byte[] withDictionary = serializer.serialize(product);
+        assertEquals(CompressionType.ZSTD_DICTIONARY.getHeader(), withDictionary[0]);
+        assertTrue(withDictionary.length < withoutDictionary.length);
+        assertEquals(product, serializer.deserialize(withDictionary));
+        assertEquals(product, serializer.deserialize(withoutDictionary));
+
+        //documents written with an older dictionary version remain readable after retraining, also by a fresh codec
+        codec.trainDictionary(samples, 4096);
+        ZstdDictionaryCompressionCodec reloaded = new ZstdDictionaryCompressionCodec();
+        reloaded.setDictionaryStore(store);
+        reloaded.loadCurrentDictionary();
+        assertEquals(Integer.valueOf(2), reloaded.getCurrentVersion());
+        assertEquals(product, new CompressingJacksonSerializer<>(ProductEntity.class, objectMapper, reloaded).deserialize(withDictionary));
+    }
+
+    public interface ProductSummary {
+
+        String getId();
+
+        Brand getBrand();
+    }
+
+    @Data
+    public static class ProductSkus {
+
+        private List<SkuEntity> skus;
+    }
+
+    private static class InMemoryDictionaryStore implements CompressionDictionaryStore {
+
+        private final Map<Integer, byte[]> dictionaries = new ConcurrentHashMap<>();
+        private volatile Integer currentVersion;
+
+        @Override
+        public Integer getCurrentVersion() {
+
+            return currentVersion;
+        }
+
+        @Override
+        public byte[] getDictionary(int version) {
+
+            return dictionaries.get(version);
+        }
+
+        @Override
+        public synchronized int saveDictionary(byte[] dictionary) {
+
+            int version = dictionaries.size() + 1;
+            dictionaries.put(version, dictionary);
+            currentVersion = version;
+            return version;
+        }
+    }
+}
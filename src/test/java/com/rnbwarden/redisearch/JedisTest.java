@@ -1,6 +1,7 @@
 package com.rnbwarden.redisearch;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.client.BulkOperationResult;
 import com.rnbwarden.redisearch.client.PageableSearchResults;
 import com.rnbwarden.redisearch.client.PagedSearchResult;
 import com.rnbwarden.redisearch.client.SearchResults;
@@ -246,6 +247,28 @@ public class JedisTest {
 
     }
 
+    @Test
+    public void testBulkOperations() {
+
+        assertEquals(0, (long) jedisRediSearchClient.getKeyCount());
+        jedisRediSearchClient.setBulkBatchSize(100);
+
+        List<ProductEntity> entities = IntStream.range(0, 250)
+                .mapToObj(i -> new ProductEntity("bulk" + i, i + "value", Brand.NIKE, emptyList()))
+                .collect(Collectors.toList());
+        BulkOperationResult saveResult = jedisRediSearchClient.saveAll(entities);
+        assertEquals(entities.size(), saveResult.getSuccessCount());
+        assertTrue(saveResult.getFailures().isEmpty());
+        assertEquals(entities.size(), (long) jedisRediSearchClient.getKeyCount());
+
+        List<String> keys = entities.stream().map(ProductEntity::getPersistenceKey).collect(Collectors.toList());
+        keys.add("unknown-key");
+        BulkOperationResult deleteResult = jedisRediSearchClient.deleteAll(keys);
+        assertEquals(entities.size(), deleteResult.getSuccessCount());
+        assertTrue(deleteResult.getFailures().isEmpty());
+        assertEquals(0, (long) jedisRediSearchClient.getKeyCount());
+    }
+
     @Test
     public void testKeyCountPagingSearchContext() {
 
@@ -2,17 +2,26 @@ package com.rnbwarden.redisearch;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.redislabs.lettusearch.RediSearchClient;
+import com.redislabs.lettusearch.StatefulRediSearchConnection;
+import com.rnbwarden.redisearch.client.AsyncRediSearchClient;
+import com.rnbwarden.redisearch.client.BulkOperationResult;
 import com.rnbwarden.redisearch.client.PageableSearchResults;
 import com.rnbwarden.redisearch.client.PagedSearchResult;
+import com.rnbwarden.redisearch.client.ReactiveRediSearchClient;
 import com.rnbwarden.redisearch.client.SearchResults;
+import com.rnbwarden.redisearch.client.cache.NearCache;
+import com.rnbwarden.redisearch.client.cache.NegativeLookupFilter;
 import com.rnbwarden.redisearch.client.context.PagingSearchContext;
 import com.rnbwarden.redisearch.client.context.SearchContext;
+import com.rnbwarden.redisearch.client.lettuce.LettuceCursorConnectionPool;
 import com.rnbwarden.redisearch.client.lettuce.LettuceRediSearchClient;
+import com.rnbwarden.redisearch.client.lettuce.LettuceSharedConnections;
 import com.rnbwarden.redisearch.config.factorybean.RediSearchLettuceClientFactoryBean;
 import com.rnbwarden.redisearch.entity.Brand;
 import com.rnbwarden.redisearch.entity.ProductEntity;
 import com.rnbwarden.redisearch.entity.SearchOperator;
 import com.rnbwarden.redisearch.entity.SkuEntity;
+import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.codec.RedisCodec;
 import org.junit.After;
@@ -20,15 +29,18 @@ import org.junit.Before;
 import org.junit.Test;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.rnbwarden.redisearch.entity.ProductEntity.*;
 import static java.util.Collections.emptyList;
 import static java.util.function.Function.identity;
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class LettuceTest {
@@ -113,6 +125,7 @@ public class LettuceTest {
         assertEquals(max + 1, lettuceRediSearchClient.getKeyCount(), 0);
 
         PagingSearchContext<ProductEntity> pagingSearchContext = lettuceRediSearchClient.getPagingSearchContextWithFields(Map.of(BRAND, Brand.ADIDAS.toString()));
+        assertEquals(max, lettuceRediSearchClient.getKeyCount(pagingSearchContext), 0);
         PageableSearchResults<ProductEntity> searchResults = lettuceRediSearchClient.search(pagingSearchContext);
 
         List<ProductEntity> products = searchResults.resultStream()
@@ -257,6 +270,178 @@ public class LettuceTest {
         assertEquals(keySize, keyCount, 0);
     }
 
+    @Test
+    public void testAsync() throws Exception {
+
+        AsyncRediSearchClient<ProductEntity> asyncClient = lettuceRediSearchClient.async();
+        ProductEntity product = new ProductEntity("id123", "FALCON01", Brand.NIKE,
+                List.of(new SkuEntity("f01", Map.of("color", "black", "price", "99.99"))));
+
+        asyncClient.save(product).get();
+        assertEquals(product, asyncClient.findByKey(product.getPersistenceKey()).get().orElseThrow());
+        assertEquals(List.of(product), asyncClient.findByKeys(List.of(product.getPersistenceKey(), "unknown-key")).get());
+
+        SearchContext<ProductEntity> searchContext = lettuceRediSearchClient.getSearchContextWithFields(Map.of(ARTICLE_NUMBER, product.getArticleNumber()));
+        assertEquals(1, asyncClient.find(searchContext).get().getResults().size());
+
+        PagingSearchContext<ProductEntity> pagingSearchContext = lettuceRediSearchClient.getPagingSearchContextWithFields(Map.of(BRAND, Brand.NIKE.toString()));
+        PageableSearchResults<ProductEntity> searchResults = asyncClient.search(pagingSearchContext).get();
+        assertEquals(1, searchResults.resultStream().count());
+
+        asyncClient.delete(product.getPersistenceKey()).get();
+        assertTrue(asyncClient.findByKey(product.getPersistenceKey()).get().isEmpty());
+    }
+
+    @Test
+    public void testReactiveSearch() {
+
+        int max = 1234;
+        saveProductsInRange(max, "FALCON-", Brand.ADIDAS);
+
+        ReactiveRediSearchClient<ProductEntity> reactiveClient = lettuceRediSearchClient.reactive();
+        PagingSearchContext<ProductEntity> pagingSearchContext = lettuceRediSearchClient.getPagingSearchContextWithFields(Map.of(BRAND, Brand.ADIDAS.toString()));
+        pagingSearchContext.setPageSize(100);
+
+        List<ProductEntity> products = reactiveClient.search(pagingSearchContext).collectList().block();
+        assertEquals(max, products.size());
+        assertEquals(max, products.stream().map(ProductEntity::getPersistenceKey).distinct().count());
+
+        assertEquals(150, (long) reactiveClient.search(pagingSearchContext).take(150).count().block());
+    }
+
+    @Test
+    public void testBulkOperations() {
+
+        assertEquals(0, (long) lettuceRediSearchClient.getKeyCount());
+        lettuceRediSearchClient.setBulkBatchSize(100);
+
+        List<ProductEntity> entities = IntStream.range(0, 250)
+                .mapToObj(i -> new ProductEntity("bulk" + i, i + "value", Brand.NIKE, emptyList()))
+                .collect(Collectors.toList());
+        BulkOperationResult saveResult = lettuceRediSearchClient.saveAll(entities);
+        assertEquals(entities.size(), saveResult.getSuccessCount());
+        assertTrue(saveResult.getFailures().isEmpty());
+        assertEquals(entities.size(), (long) lettuceRediSearchClient.getKeyCount());
+
+        List<String> keys = entities.stream().map(ProductEntity::getPersistenceKey).collect(Collectors.toList());
+        keys.add("unknown-key");
+        BulkOperationResult deleteResult = lettuceRediSearchClient.deleteAll(keys);
+        assertEquals(entities.size(), deleteResult.getSuccessCount());
+        assertTrue(deleteResult.getFailures().isEmpty());
+        assertEquals(0, (long) lettuceRediSearchClient.getKeyCount());
+    }
+
+    @Test
+    public void testNearCache() throws Exception {
+
+        lettuceRediSearchClient.enableNearCache(100, Duration.ofMinutes(1));
+        try {
+            lettuceRediSearchClient.save(new ProductEntity("near1", "BEFORE", Brand.NIKE, emptyList()));
+            lettuceRediSearchClient.save(new ProductEntity("near2", "OTHER", Brand.NIKE, emptyList()));
+            NearCache<ProductEntity> nearCache = lettuceRediSearchClient.getNearCache().orElseThrow();
+
+            assertEquals("BEFORE", lettuceRediSearchClient.findByKey("near1").orElseThrow().getArticleNumber());
+            assertEquals("BEFORE", lettuceRediSearchClient.findByKey("near1").orElseThrow().getArticleNumber());
+            assertEquals(1, nearCache.getHitCount());
+            assertEquals("BEFORE", lettuceRediSearchClient.async().findByKey("near1").get().orElseThrow().getArticleNumber());
+            assertEquals(2, nearCache.getHitCount());
+
+            List<ProductEntity> products = lettuceRediSearchClient.findByKeys(List.of("near2", "unknown", "near1"));
+            assertEquals(List.of("OTHER", "BEFORE"), products.stream().map(ProductEntity::getArticleNumber).collect(Collectors.toList()));
+            assertEquals(3, nearCache.getHitCount());
+            products = lettuceRediSearchClient.async().findByKeys(List.of("near2", "unknown", "near1")).get();
+            assertEquals(List.of("OTHER", "BEFORE"), products.stream().map(ProductEntity::getArticleNumber).collect(Collectors.toList()));
+            assertEquals(5, nearCache.getHitCount());
+
+            lettuceRediSearchClient.save(new ProductEntity("near1", "AFTER", Brand.NIKE, emptyList()));
+            assertEquals("AFTER", lettuceRediSearchClient.findByKey("near1").orElseThrow().getArticleNumber());
+            lettuceRediSearchClient.delete("near1");
+            assertTrue(lettuceRediSearchClient.findByKey("near1").isEmpty());
+        } finally {
+            lettuceRediSearchClient.disableNearCache();
+        }
+    }
+
+    @Test
+    public void testNegativeLookupFilter() throws Exception {
+
+        lettuceRediSearchClient.save(new ProductEntity("existing", "EXISTING", Brand.NIKE, emptyList()));
+        RediSearchClient rediSearchClient = RediSearchClient.create(RedisURI.create("localhost", 6379));
+        try (StatefulRediSearchConnection<String, String> connection = rediSearchClient.connect()) {
+            connection.sync().configSet("notify-keyspace-events", "");
+            assertThrows(IllegalStateException.class, () -> lettuceRediSearchClient.enableNegativeLookupFilter(1000, 0.001, Duration.ofHours(1)));
+            assertTrue(lettuceRediSearchClient.getNegativeLookupFilter().isEmpty());
+            connection.sync().configSet("notify-keyspace-events", "KA");
+        }
+        lettuceRediSearchClient.enableNegativeLookupFilter(1000, 0.001, Duration.ofHours(1));
+        try {
+            NegativeLookupFilter filter = lettuceRediSearchClient.getNegativeLookupFilter().orElseThrow();
+            for (int i = 0; i < 500 && !filter.isReady(); i++) {
+                Thread.sleep(10);
+            }
+            assertTrue(filter.isReady());
+
+            assertTrue(lettuceRediSearchClient.findByKey("existing").isPresent());
+            assertTrue(lettuceRediSearchClient.findByKey("missing").isEmpty());
+            assertEquals(1, filter.getSkippedLookups());
+            assertTrue(lettuceRediSearchClient.async().findByKey("missing").get().isEmpty());
+            assertEquals(2, filter.getSkippedLookups());
+
+            lettuceRediSearchClient.save(new ProductEntity("missing", "SAVED", Brand.NIKE, emptyList()));
+            assertEquals(2, lettuceRediSearchClient.findByKeys(List.of("existing", "missing", "unknown")).size());
+        } finally {
+            lettuceRediSearchClient.disableNegativeLookupFilter();
+        }
+    }
+
+    @Test
+    public void testSharedConnections() {
+
+        RediSearchClient rediSearchClient = RediSearchClient.create(RedisURI.create("localhost", 6379));
+        RedisCodec<String, Object> redisCodec = new RediSearchLettuceClientFactoryBean.LettuceRedisCodec();
+        RedisSerializer<ProductEntity> redisSerializer = new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper());
+        try (LettuceSharedConnections sharedConnections = new LettuceSharedConnections(rediSearchClient, redisCodec, 1)) {
+            LettuceRediSearchClient<ProductEntity> sharingClient = new LettuceRediSearchClient<>(ProductEntity.class, rediSearchClient,
+                    redisCodec, redisSerializer, 1000L, sharedConnections);
+            LettuceRediSearchClient<ProductEntity> otherSharingClient = new LettuceRediSearchClient<>(ProductEntity.class, rediSearchClient,
+                    redisCodec, redisSerializer, 1000L, sharedConnections);
+
+            saveProductsInRange(10, "SHARED-", Brand.NIKE);
+            ProductEntity product = new ProductEntity("shared", "SHARED", Brand.ADIDAS, emptyList());
+            sharingClient.save(product);
+            assertEquals(product, otherSharingClient.findByKey(product.getPersistenceKey()).orElseThrow());
+            assertEquals(10, sharingClient.findByKeys(IntStream.range(0, 10).mapToObj(i -> "id" + i).collect(Collectors.toList())).size());
+            assertEquals(11, (long) otherSharingClient.getKeyCount());
+
+            BulkOperationResult result = sharingClient.deleteAll(List.of(product.getPersistenceKey(), "id0"));
+            assertEquals(2, result.getSuccessCount());
+            assertEquals(1, sharedConnections.getOpenConnections());
+        }
+    }
+
+    @Test
+    public void testCursorConnectionPool() {
+
+        saveProductsInRange(20, "CURSOR-", Brand.NIKE);
+        lettuceRediSearchClient.configureCursorConnectionPool(1, Duration.ofMillis(100), Duration.ofMinutes(10));
+        LettuceCursorConnectionPool cursorConnectionPool = lettuceRediSearchClient.getCursorConnectionPool();
+        PagingSearchContext<ProductEntity> pagingSearchContext = lettuceRediSearchClient.getPagingSearchContextWithFields(Map.of(BRAND, Brand.NIKE.toString()));
+        pagingSearchContext.setPageSize(5);
+
+        Stream<PagedSearchResult<ProductEntity>> openCursor = lettuceRediSearchClient.search(pagingSearchContext).resultStream();
+        assertEquals(1, cursorConnectionPool.getNumActive());
+        assertThrows(RedisException.class, () -> lettuceRediSearchClient.search(pagingSearchContext));
+        assertEquals(1, cursorConnectionPool.getBorrowTimeouts());
+
+        openCursor.close();
+        assertEquals(0, cursorConnectionPool.getNumActive());
+        try (Stream<PagedSearchResult<ProductEntity>> resultStream = lettuceRediSearchClient.search(pagingSearchContext).resultStream()) {
+            assertEquals(20, resultStream.count());
+        }
+        assertEquals(1, cursorConnectionPool.getCreatedCount());
+        assertEquals(2, cursorConnectionPool.getBorrowedCount());
+    }
+
     @Test
     public void testKeyCountPagingSearchContext() {
 
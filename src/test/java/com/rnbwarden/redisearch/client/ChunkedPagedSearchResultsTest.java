@@ -0,0 +1,105 @@
+package com.rnbwarden.redisearch.client;
+
+import com.rnbwarden.redisearch.entity.Brand;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkedPagedSearchResultsTest {
+
+    private static final String KEY_PREFIX = "product:";
+
+    private final Map<String, ProductEntity> store = new HashMap<>();
+    private final AtomicInteger multiGets = new AtomicInteger();
+    private final List<Exception> exceptions = Collections.synchronizedList(new ArrayList<>());
+
+    private List<Object> multiGet(String[] qualifiedKeys) {
+
+        multiGets.incrementAndGet();
+        return Arrays.stream(qualifiedKeys).map(store::get).collect(Collectors.toList());
+    }
+
+    private ProductEntity deserialize(Object serializedDocument) {
+
+        ProductEntity product = (ProductEntity) serializedDocument;
+        if ("broken".equals(product.getArticleNumber())) {
+            throw new IllegalStateException("broken document");
+        }
+        return product;
+    }
+
+    @Test
+    public void testChunkedMultiGet() {
+
+        List<String> qualifiedKeys = IntStream.range(0, 1050)
+                .mapToObj(i -> new ProductEntity("id" + i, "ARTICLE" + i, Brand.NIKE, emptyList()))
+                .peek(product -> store.put(KEY_PREFIX + product.getPersistenceKey(), product))
+                .map(product -> KEY_PREFIX + product.getPersistenceKey())
+                .collect(Collectors.toList());
+        qualifiedKeys.add(KEY_PREFIX + "missing");
+
+        List<PagedSearchResult<ProductEntity>> results = stream(qualifiedKeys, false).collect(Collectors.toList());
+        assertEquals(0, multiGets.get());
+
+        List<ProductEntity> products = results.stream()
+                .map(PagedSearchResult::getResult)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+        assertEquals(1050, products.size());
+        assertEquals(3, multiGets.get());
+        for (int i = 0; i < products.size(); i++) {
+            assertEquals(qualifiedKeys.get(i), KEY_PREFIX + products.get(i).getPersistenceKey());
+            assertEquals(products.get(i).getPersistenceKey(), results.get(i).getKey());
+        }
+        assertEquals("missing", results.get(1050).getKey());
+        assertTrue(exceptions.isEmpty());
+    }
+
+    @Test
+    public void testParallelChunkedMultiGet() {
+
+        List<String> qualifiedKeys = IntStream.range(0, 2000)
+                .mapToObj(i -> new ProductEntity("id" + i, "ARTICLE" + i, Brand.NIKE, emptyList()))
+                .peek(product -> store.put(KEY_PREFIX + product.getPersistenceKey(), product))
+                .map(product -> KEY_PREFIX + product.getPersistenceKey())
+                .collect(Collectors.toList());
+
+        long count = stream(qualifiedKeys, true)
+                .map(PagedSearchResult::getResult)
+                .filter(Optional::isPresent)
+                .count();
+        assertEquals(2000, count);
+        assertEquals(4, multiGets.get());
+    }
+
+    @Test
+    public void testFailuresAreReportedPerHit() {
+
+        ProductEntity good = new ProductEntity("good", "ARTICLE", Brand.NIKE, emptyList());
+        ProductEntity broken = new ProductEntity("bad", "broken", Brand.NIKE, emptyList());
+        store.put(KEY_PREFIX + good.getPersistenceKey(), good);
+        store.put(KEY_PREFIX + broken.getPersistenceKey(), broken);
+
+        List<Optional<ProductEntity>> results = stream(List.of(KEY_PREFIX + broken.getPersistenceKey(), KEY_PREFIX + good.getPersistenceKey()), false)
+                .map(PagedSearchResult::getResult)
+                .collect(Collectors.toList());
+        assertEquals(List.of(Optional.empty(), Optional.of(good)), results);
+        assertEquals(1, exceptions.size());
+    }
+
+    private Stream<PagedSearchResult<ProductEntity>> stream(List<String> qualifiedKeys, boolean parallel) {
+
+        Function<String, String> keyFunction = qualifiedKey -> qualifiedKey.substring(KEY_PREFIX.length());
+        return ChunkedPagedSearchResults.stream(qualifiedKeys, 500, parallel, keyFunction, this::multiGet, this::deserialize, exceptions::add);
+    }
+}
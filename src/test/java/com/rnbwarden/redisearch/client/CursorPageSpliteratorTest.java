@@ -0,0 +1,93 @@
+package com.rnbwarden.redisearch.client;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.*;
+
+public class CursorPageSpliteratorTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    /**
+     * Pages of PAGE_SIZE consecutive results, starting from the page after the first
+     */
+    private CursorPageSpliterator<List<Integer>, Integer> spliterator(int pages, long estimatedSize) {
+
+        PrefetchingPageReader<List<Integer>> pageReader = new PrefetchingPageReader<>(page(0), () -> {
+            int page = reads.incrementAndGet();
+            return page < pages ? page(page) : List.of();
+        }, page -> !page.isEmpty(), 1);
+        return new CursorPageSpliterator<>(page(0), pageReader, Function.identity(), estimatedSize);
+    }
+
+    private static List<Integer> page(int page) {
+
+        return IntStream.range(page * PAGE_SIZE, (page + 1) * PAGE_SIZE).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testSplitsByPage() {
+
+        CursorPageSpliterator<List<Integer>, Integer> spliterator = spliterator(3, 3 * PAGE_SIZE);
+        assertTrue(spliterator.tryAdvance(result -> assertEquals(0, (int) result)));
+
+        Spliterator<Integer> remainderOfFirstPage = spliterator.trySplit();
+        assertEquals(PAGE_SIZE - 1, remainderOfFirstPage.estimateSize());
+        assertEquals(2 * PAGE_SIZE, spliterator.estimateSize());
+
+        Spliterator<Integer> secondPage = spliterator.trySplit();
+        assertEquals(PAGE_SIZE, secondPage.estimateSize());
+        assertTrue(secondPage.tryAdvance(result -> assertEquals(PAGE_SIZE, (int) result)));
+
+        Spliterator<Integer> thirdPage = spliterator.trySplit();
+        assertEquals(PAGE_SIZE, thirdPage.estimateSize());
+        assertNull(spliterator.trySplit());
+        assertEquals(0, spliterator.estimateSize());
+        assertFalse(spliterator.tryAdvance(result -> fail()));
+    }
+
+    @Test
+    public void testSequentialStreamKeepsOrder() {
+
+        List<Integer> results = StreamSupport.stream(spliterator(5, 5 * PAGE_SIZE), false).collect(Collectors.toList());
+        assertEquals(IntStream.range(0, 5 * PAGE_SIZE).boxed().collect(Collectors.toList()), results);
+        assertEquals(5, reads.get());
+    }
+
+    @Test
+    public void testParallelStreamSeesEveryResultOnce() {
+
+        int pages = 50;
+        List<Integer> results = StreamSupport.stream(spliterator(pages, pages * PAGE_SIZE), true)
+                .map(result -> result * 2)
+                .collect(Collectors.toList());
+        assertEquals(IntStream.range(0, pages * PAGE_SIZE).map(result -> result * 2).boxed().collect(Collectors.toList()), results);
+        assertEquals(pages, reads.get());
+    }
+
+    @Test
+    public void testUnderestimatedSize() {
+
+        long count = StreamSupport.stream(spliterator(10, PAGE_SIZE), true).count();
+        assertEquals(10 * PAGE_SIZE, count);
+    }
+
+    @Test
+    public void testEmptyCursor() {
+
+        PrefetchingPageReader<List<Integer>> pageReader = new PrefetchingPageReader<>(List.of(), List::of, page -> !page.isEmpty(), 1);
+        CursorPageSpliterator<List<Integer>, Integer> spliterator = new CursorPageSpliterator<>(null, pageReader, Function.identity(), 0);
+        assertNull(spliterator.trySplit());
+        assertEquals(0, StreamSupport.stream(spliterator, true).count());
+    }
+}
@@ -0,0 +1,62 @@
+package com.rnbwarden.redisearch.client;
+
+import com.rnbwarden.redisearch.entity.Brand;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import com.rnbwarden.redisearch.entity.SkuEntity;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+
+public class FieldAccessorsTest {
+
+    private final ProductEntity product = new ProductEntity("id123", "FALCON01", Brand.NIKE,
+            List.of(new SkuEntity("f01", Map.of()), new SkuEntity("f02", Map.of())));
+
+    @Test
+    public void testPrivateFieldAccessor() throws Exception {
+
+        Function<ProductEntity, Object> accessor = FieldAccessors.forField(ProductEntity.class.getDeclaredField("brand"));
+        assertEquals(Brand.NIKE, accessor.apply(product));
+    }
+
+    @Test
+    public void testMethodAccessor() throws Exception {
+
+        Function<ProductEntity, Object> accessor = FieldAccessors.forMethod(ProductEntity.class.getMethod("getSkuIds"));
+        assertEquals(Set.of("f01", "f02"), Set.copyOf((Collection<?>) accessor.apply(product)));
+    }
+
+    @Test
+    public void testPrimitiveAndPrivateMethodAccessors() throws Exception {
+
+        Function<Counter, Object> primitive = FieldAccessors.forMethod(Counter.class.getDeclaredMethod("getCount"));
+        Function<Counter, Object> hidden = FieldAccessors.forMethod(Counter.class.getDeclaredMethod("getLabel"));
+        Function<Counter, Object> field = FieldAccessors.forField(Counter.class.getDeclaredField("count"));
+
+        Counter counter = new Counter();
+        assertEquals(42, primitive.apply(counter));
+        assertEquals("label-42", hidden.apply(counter));
+        assertEquals(42, field.apply(counter));
+    }
+
+    private static class Counter {
+
+        private final int count = 42;
+
+        public int getCount() {
+
+            return count;
+        }
+
+        private String getLabel() {
+
+            return "label-" + count;
+        }
+    }
+}
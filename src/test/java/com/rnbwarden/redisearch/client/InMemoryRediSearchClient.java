@@ -0,0 +1,162 @@
+package com.rnbwarden.redisearch.client;
+
+import com.rnbwarden.redisearch.client.context.PagingSearchContext;
+import com.rnbwarden.redisearch.client.context.SearchContext;
+import com.rnbwarden.redisearch.entity.RediSearchFieldType;
+import com.rnbwarden.redisearch.entity.RedisSearchableEntity;
+import com.rnbwarden.redisearch.entity.SearchableField;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Client storing documents in memory, for testing the client-side behaviour of {@link AbstractRediSearchClient}.
+ * A search only reports the number of documents; paging searches are unsupported. Also used by the JMH benchmarks of
+ * the serialization and query building paths, which include the test classes.
+ */
+class InMemoryRediSearchClient<E extends RedisSearchableEntity> extends AbstractRediSearchClient<E, SearchableField<E>> {
+
+    final Map<String, Map<String, Object>> documents = new ConcurrentHashMap<>();
+    final Set<String> failingKeys = ConcurrentHashMap.newKeySet();
+    final AtomicInteger searches = new AtomicInteger();
+
+    InMemoryRediSearchClient(Class<E> clazz, RedisSerializer<E> redisSerializer) {
+
+        super(clazz, redisSerializer, SearchContext.DEFAULT_MAX_LIMIT_VALUE);
+    }
+
+    @Override
+    protected void checkAndCreateIndex() {
+
+    }
+
+    @Override
+    protected SearchableField<E> createSearchableField(RediSearchFieldType type,
+                                                       String name,
+                                                       boolean sortable,
+                                                       Function<E, String> serializationFunction) {
+
+        String querySyntax = type == RediSearchFieldType.TAG ? SearchableTagField.QUERY_SYNTAX : SearchableTextField.QUERY_SYNTAX;
+        return new SearchableField<>(name, serializationFunction, querySyntax, sortable) {
+        };
+    }
+
+    @Override
+    public void dropIndex() {
+
+        documents.clear();
+        invalidateQueryResultCache();
+    }
+
+    @Override
+    public void save(E entity) {
+
+        documents.put(getQualifiedKey(entity.getPersistenceKey()), serialize(entity));
+        invalidateQueryResultCache();
+    }
+
+    @Override
+    protected void saveSerialized(List<SerializedDocument> serializedDocuments, BulkOperationResult result) {
+
+        for (SerializedDocument serializedDocument : serializedDocuments) {
+            if (failingKeys.contains(serializedDocument.getKey())) {
+                result.recordFailure(serializedDocument.getKey(), new IllegalStateException("failing key"));
+            } else {
+                documents.put(getQualifiedKey(serializedDocument.getKey()), serializedDocument.getFields());
+                result.recordSuccess();
+            }
+        }
+        invalidateQueryResultCache();
+    }
+
+    @Override
+    public void delete(String key) {
+
+        documents.remove(getQualifiedKey(key));
+        invalidateQueryResultCache();
+    }
+
+    @Override
+    public BulkOperationResult deleteAll(Collection<String> keys) {
+
+        BulkOperationResult result = new BulkOperationResult();
+        keys.forEach(key -> {
+            if (documents.remove(getQualifiedKey(key)) != null) {
+                result.recordSuccess();
+            }
+        });
+        invalidateQueryResultCache();
+        return result;
+    }
+
+    @Override
+    public Optional<E> findByKey(String key) {
+
+        return Optional.ofNullable(documents.get(getQualifiedKey(key))).map(this::deserialize);
+    }
+
+    @Override
+    public <P> Optional<P> findByKey(String key, Class<P> projectionType) {
+
+        return Optional.ofNullable(documents.get(getQualifiedKey(key)))
+                .map(fields -> deserialize(fields.get(SERIALIZED_DOCUMENT), projectionType));
+    }
+
+    @Override
+    public List<E> findByKeys(Collection<String> keys) {
+
+        return keys.stream()
+                .map(this::findByKey)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public SearchResults<E> find(SearchContext<E> searchContext) {
+
+        return find(searchContext, () -> search(buildQueryString(searchContext), searchContext));
+    }
+
+    @Override
+    public PageableSearchResults<E> search(PagingSearchContext<E> pagingSearchContext) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected SearchResults<E> search(String queryString, SearchContext<E> searchContext) {
+
+        searches.incrementAndGet();
+        long totalResults = documents.size();
+        return new SearchResults<>() {
+
+            @Override
+            public Long getTotalResults() {
+
+                return totalResults;
+            }
+
+            @Override
+            public List<SearchResult<String, Object>> getResults() {
+
+                return Collections.emptyList();
+            }
+        };
+    }
+
+    @Override
+    protected PageableSearchResults<E> clientSidePagingSearch(String queryString, PagingSearchContext<E> pagingSearchContext) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected PageableSearchResults<E> aggregateSearch(String queryString, PagingSearchContext<E> searchContext) {
+
+        throw new UnsupportedOperationException();
+    }
+}
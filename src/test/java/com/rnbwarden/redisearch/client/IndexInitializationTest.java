@@ -0,0 +1,125 @@
+package com.rnbwarden.redisearch.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class IndexInitializationTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final InMemoryRediSearchClient<ProductEntity> client = new InMemoryRediSearchClient<>(ProductEntity.class,
+            new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper()));
+
+    @After
+    public void tearDown() {
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testReadyOnceInitialized() throws Exception {
+
+        CountDownLatch latch = new CountDownLatch(1);
+        client.initializeIndex(executor, () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertFalse(client.isIndexReady());
+        assertTrue(client.getIndexInitializationFailure().isEmpty());
+
+        latch.countDown();
+        client.getIndexInitialization().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertTrue(client.isIndexReady());
+        assertTrue(client.getIndexInitializationFailure().isEmpty());
+    }
+
+    @Test
+    public void testFailureIsRetried() throws Exception {
+
+        AtomicInteger attempts = new AtomicInteger();
+        client.initializeIndex(executor, 3, Duration.ofMillis(10), () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("Connection refused");
+            }
+        });
+        client.getIndexInitialization().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertTrue(client.isIndexReady());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testFailureIsReported() throws Exception {
+
+        AtomicInteger attempts = new AtomicInteger();
+        client.initializeIndex(executor, 3, Duration.ofMillis(10), () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("Connection refused");
+        });
+        try {
+            client.getIndexInitialization().toCompletableFuture().get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertEquals("Connection refused", e.getCause().getMessage());
+        }
+        assertFalse(client.isIndexReady());
+        assertEquals("Connection refused", client.getIndexInitializationFailure().orElseThrow().getMessage());
+        assertEquals(3, attempts.get());
+
+        client.recreateIndex();
+        assertTrue(client.isIndexReady());
+    }
+
+    @Test
+    public void testRecreateWaitsForPendingInitialization() throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        client.initializeIndex(executor, 3, Duration.ofMillis(10), () -> {
+            attempts.incrementAndGet();
+            started.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("Connection refused");
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> recreated = CompletableFuture.runAsync(client::recreateIndex);
+        Thread.sleep(100);
+        assertFalse(recreated.isDone());
+
+        latch.countDown();
+        recreated.get(5, TimeUnit.SECONDS);
+        assertTrue(client.isIndexReady());
+        Thread.sleep(100);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testWithoutExecutor() {
+
+        assertTrue(client.isIndexReady());
+        client.initializeIndex(null, () -> {
+            throw new IllegalStateException("Connection refused");
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package com.rnbwarden.redisearch.client;
+
+import com.rnbwarden.redisearch.entity.SearchableField;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IndexSchemaDiffTest {
+
+    private static class TagField extends SearchableField<Object> implements SearchableTagField {
+
+        TagField(String name, boolean sortable) {
+
+            super(name, String::valueOf, QUERY_SYNTAX, sortable);
+        }
+    }
+
+    private static class TextField extends SearchableField<Object> implements SearchableTextField {
+
+        TextField(String name, boolean sortable) {
+
+            super(name, String::valueOf, QUERY_SYNTAX, sortable);
+        }
+    }
+
+    @Test
+    public void testMissingFields() {
+
+        List<Object> infoReply = List.of("index_name", "product",
+                "fields", List.of(List.of("brand", "type", "TAG", "SEPARATOR", ","),
+                        List.of("articleNumber", "type", "TEXT", "WEIGHT", "1", "SORTABLE")),
+                "num_docs", "0");
+
+        IndexSchemaDiff schemaDiff = IndexSchemaDiff.of("product", infoReply,
+                List.of(new TagField("brand", false), new TextField("articleNumber", true), new TagField("color", false)));
+
+        assertEquals(List.of("color"), schemaDiff.getMissingFields());
+        assertTrue(schemaDiff.getDrift().isEmpty());
+    }
+
+    @Test
+    public void testDrift() {
+
+        Map<String, Object> info = Map.of("fields", List.of(List.of(bytes("brand"), bytes("type"), bytes("TEXT"), bytes("WEIGHT"), 1L),
+                List.of(bytes("articleNumber"), bytes("type"), bytes("TEXT"), bytes("WEIGHT"), 1L, bytes("SORTABLE")),
+                List.of(bytes("legacy"), bytes("type"), bytes("TAG"))));
+
+        IndexSchemaDiff schemaDiff = IndexSchemaDiff.of("product", info,
+                List.of(new TagField("brand", false), new TextField("articleNumber", false)));
+
+        assertTrue(schemaDiff.getMissingFields().isEmpty());
+        assertEquals(List.of("field 'brand' of index 'product' is TEXT but mapped as TAG",
+                "field 'articleNumber' of index 'product' is sortable but mapped as not sortable",
+                "field 'legacy' of index 'product' is no longer mapped"), schemaDiff.getDrift());
+    }
+
+    @Test
+    public void testAttributeNames() {
+
+        List<Object> infoReply = List.of("fields", List.of(List.of("identifier", "$.brand", "attribute", "brand", "type", "TAG", "SORTABLE"),
+                List.of("type", "type", "TEXT")));
+
+        IndexSchemaDiff schemaDiff = IndexSchemaDiff.of("product", infoReply, List.of(new TagField("brand", true), new TextField("type", false)));
+
+        assertTrue(schemaDiff.getMissingFields().isEmpty());
+        assertTrue(schemaDiff.getDrift().isEmpty());
+    }
+
+    @Test
+    public void testNoFields() {
+
+        IndexSchemaDiff schemaDiff = IndexSchemaDiff.of("product", List.of("index_name", "product"), List.of(new TagField("brand", false)));
+
+        assertEquals(List.of("brand"), schemaDiff.getMissingFields());
+    }
+
+    private static byte[] bytes(String value) {
+
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,136 @@
+package com.rnbwarden.redisearch.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.entity.Brand;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.*;
+
+public class IngestionPipelineTest {
+
+    private final InMemoryRediSearchClient<ProductEntity> client = new InMemoryRediSearchClient<>(ProductEntity.class,
+            new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper()));
+
+    @Test
+    public void testIngest() {
+
+        int count = 5000;
+        ProductEntity failing = product(17);
+        client.failingKeys.add(failing.getPersistenceKey());
+
+        Map<String, Exception> failures = new ConcurrentHashMap<>();
+        AtomicInteger progressReports = new AtomicInteger();
+        IngestionOptions options = new IngestionOptions();
+        options.setSerializationThreads(3);
+        options.setWriteConnections(2);
+        options.setBatchSize(64);
+        options.setQueueCapacity(100);
+        options.setProgressInterval(Duration.ofMillis(1));
+        options.setProgressListener(metrics -> progressReports.incrementAndGet());
+        options.setFailureListener(failures::put);
+
+        IngestionMetrics metrics = client.ingest(IntStream.range(0, count).mapToObj(this::product), options);
+
+        assertEquals(count, metrics.getRead());
+        assertEquals(count, metrics.getSerialized());
+        assertEquals(count - 1, metrics.getWritten());
+        assertEquals(1, metrics.getFailed());
+        assertEquals(0, metrics.getLag());
+        assertEquals(Map.of(failing.getPersistenceKey(), failures.get(failing.getPersistenceKey())), failures);
+        assertEquals(count - 1, client.documents.size());
+        assertEquals(product(42), client.findByKey(product(42).getPersistenceKey()).orElseThrow());
+        assertTrue(progressReports.get() > 0);
+    }
+
+    @Test(timeout = 10000)
+    public void testFailsWhenWorkerDies() {
+
+        client.failingKeys.add(product(17).getPersistenceKey());
+        RuntimeException listenerFailure = new RuntimeException("listener failed");
+        IngestionOptions options = new IngestionOptions();
+        options.setSerializationThreads(2);
+        options.setWriteConnections(1);
+        options.setBatchSize(8);
+        options.setQueueCapacity(10);
+        options.setFailureListener((key, e) -> {
+            throw listenerFailure;
+        });
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> client.ingest(IntStream.range(0, 5000).mapToObj(this::product), options));
+        assertSame(listenerFailure, e.getCause());
+    }
+
+    @Test(timeout = 10000)
+    public void testSourceFailureIsNotMaskedByWorkerFailure() {
+
+        client.failingKeys.add(product(0).getPersistenceKey());
+        CountDownLatch workerFailed = new CountDownLatch(1);
+        IngestionOptions options = new IngestionOptions();
+        options.setFailureListener((key, e) -> {
+            workerFailed.countDown();
+            throw new RuntimeException("listener failed");
+        });
+        RuntimeException sourceFailure = new RuntimeException("source failed");
+        Iterator<ProductEntity> entities = new Iterator<>() {
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+
+                return true;
+            }
+
+            @Override
+            public ProductEntity next() {
+
+                if (next == 1) {
+                    try {
+                        workerFailed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw sourceFailure;
+                }
+                return product(next++);
+            }
+        };
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> client.ingest(entities, options));
+        assertSame(sourceFailure, e);
+    }
+
+    @Test
+    public void testSaveAll() {
+
+        client.setBulkBatchSize(7);
+        List<ProductEntity> products = IntStream.range(0, 50).mapToObj(this::product).collect(Collectors.toList());
+        client.failingKeys.add(products.get(3).getPersistenceKey());
+
+        BulkOperationResult result = client.saveAll(products);
+
+        assertEquals(49, result.getSuccessCount());
+        assertEquals(List.of(products.get(3).getPersistenceKey()), List.copyOf(result.getFailures().keySet()));
+        assertFalse(client.findByKey(products.get(3).getPersistenceKey()).isPresent());
+        assertEquals(products.get(4), client.findByKey(products.get(4).getPersistenceKey()).orElseThrow());
+    }
+
+    private ProductEntity product(int i) {
+
+        return new ProductEntity("id" + i, "ARTICLE" + i, Brand.NIKE, emptyList());
+    }
+}
@@ -0,0 +1,90 @@
+package com.rnbwarden.redisearch.client;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+public class PrefetchingPageReaderTest {
+
+    private final AtomicInteger reads = new AtomicInteger();
+    private final AtomicInteger concurrentReads = new AtomicInteger();
+    private volatile boolean overlapped;
+
+    /**
+     * Pages 1 to lastPage, then an empty page
+     */
+    private Supplier<List<Integer>> pages(int lastPage, CountDownLatch readLatch) {
+
+        return () -> {
+            if (concurrentReads.incrementAndGet() > 1) {
+                overlapped = true;
+            }
+            try {
+                int page = reads.incrementAndGet();
+                readLatch.countDown();
+                Thread.sleep(5);
+                return page <= lastPage ? List.of(page) : List.of();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                concurrentReads.decrementAndGet();
+            }
+        };
+    }
+
+    @Test
+    public void testReadsAhead() throws Exception {
+
+        CountDownLatch readLatch = new CountDownLatch(3);
+        PrefetchingPageReader<List<Integer>> reader = new PrefetchingPageReader<>(List.of(0), pages(5, readLatch), page -> !page.isEmpty(), 3);
+
+        assertTrue("pages should be read before they are requested", readLatch.await(5, TimeUnit.SECONDS));
+        for (int page = 1; page <= 5; page++) {
+            assertEquals(List.of(page), reader.next());
+        }
+        assertEquals(List.of(), reader.next());
+        assertNull(reader.next());
+        assertNull(reader.next());
+        assertEquals(6, reads.get());
+        assertFalse("reads of a cursor must not overlap", overlapped);
+    }
+
+    @Test
+    public void testWithoutPrefetch() {
+
+        PrefetchingPageReader<List<Integer>> reader = new PrefetchingPageReader<>(List.of(0), pages(2, new CountDownLatch(0)), page -> !page.isEmpty(), 0);
+
+        assertEquals(0, reads.get());
+        assertEquals(List.of(1), reader.next());
+        assertEquals(1, reads.get());
+        assertEquals(List.of(2), reader.next());
+        assertEquals(List.of(), reader.next());
+        assertNull(reader.next());
+        assertEquals(3, reads.get());
+    }
+
+    @Test
+    public void testEmptyFirstPageReadsNothing() {
+
+        PrefetchingPageReader<List<Integer>> reader = new PrefetchingPageReader<>(List.of(), pages(2, new CountDownLatch(0)), page -> !page.isEmpty(), 2);
+
+        assertNull(reader.next());
+        assertEquals(0, reads.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReadFailureIsRethrown() {
+
+        PrefetchingPageReader<List<Integer>> reader = new PrefetchingPageReader<>(List.of(0), () -> {
+            throw new IllegalStateException("Cursor read failed");
+        }, page -> !page.isEmpty(), 2);
+
+        reader.next();
+    }
+}
@@ -0,0 +1,122 @@
+package com.rnbwarden.redisearch.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.client.cache.CacheInvalidationChannel;
+import com.rnbwarden.redisearch.client.context.SearchContext;
+import com.rnbwarden.redisearch.entity.Brand;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static com.rnbwarden.redisearch.entity.ProductEntity.ARTICLE_NUMBER;
+import static com.rnbwarden.redisearch.entity.ProductEntity.BRAND;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QueryResultCachingTest {
+
+    private final InMemoryChannel channel = new InMemoryChannel();
+    private final InMemoryRediSearchClient<ProductEntity> client = createClient();
+    private final InMemoryRediSearchClient<ProductEntity> otherClient = createClient();
+
+    private InMemoryRediSearchClient<ProductEntity> createClient() {
+
+        InMemoryRediSearchClient<ProductEntity> client = new InMemoryRediSearchClient<>(ProductEntity.class,
+                new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper()));
+        client.enableQueryResultCache(100, Duration.ofMinutes(1), channel);
+        return client;
+    }
+
+    private SearchContext<ProductEntity> searchContext(String... fieldValues) {
+
+        SearchContext<ProductEntity> searchContext = new SearchContext<>();
+        for (int i = 0; i < fieldValues.length; i += 2) {
+            searchContext.addField(client.getField(fieldValues[i]), fieldValues[i + 1]);
+        }
+        return searchContext;
+    }
+
+    @Test
+    public void testCachesByNormalizedQuery() {
+
+        client.find(searchContext(BRAND, "NIKE", ARTICLE_NUMBER, "A1"));
+        client.find(searchContext(ARTICLE_NUMBER, "A1", BRAND, "NIKE"));
+        assertEquals(1, client.searches.get());
+
+        SearchContext<ProductEntity> limited = searchContext(BRAND, "NIKE", ARTICLE_NUMBER, "A1");
+        limited.setLimit(10);
+        client.find(limited);
+        assertEquals(2, client.searches.get());
+    }
+
+    @Test
+    public void testWritesInvalidateEveryClient() {
+
+        assertEquals(0, (long) client.find(searchContext(BRAND, "NIKE")).getTotalResults());
+        assertEquals(0, (long) otherClient.find(searchContext(BRAND, "NIKE")).getTotalResults());
+
+        client.save(new ProductEntity("id1", "A1", Brand.NIKE, emptyList()));
+        assertEquals(1, channel.published.size());
+
+        assertEquals(1, (long) client.find(searchContext(BRAND, "NIKE")).getTotalResults());
+        assertEquals(2, client.searches.get());
+        otherClient.find(searchContext(BRAND, "NIKE"));
+        assertEquals(2, otherClient.searches.get());
+    }
+
+    @Test
+    public void testOwnInvalidationIsNotReapplied() {
+
+        client.find(searchContext(BRAND, "NIKE"));
+        otherClient.find(searchContext(BRAND, "NIKE"));
+        client.delete("id1");
+
+        assertEquals(1, client.getQueryResultCache().orElseThrow().getGeneration());
+        assertEquals(1, otherClient.getQueryResultCache().orElseThrow().getGeneration());
+    }
+
+    @Test
+    public void testClientWithoutCachePublishesWrites() {
+
+        InMemoryRediSearchClient<ProductEntity> ingestionClient = new InMemoryRediSearchClient<>(ProductEntity.class,
+                new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper()));
+        ingestionClient.publishCacheInvalidations(channel);
+        client.find(searchContext(BRAND, "NIKE"));
+
+        ingestionClient.save(new ProductEntity("id1", "A1", Brand.NIKE, emptyList()));
+
+        assertTrue(ingestionClient.getQueryResultCache().isEmpty());
+        assertEquals(1, channel.published.size());
+        assertEquals(1, client.getQueryResultCache().orElseThrow().getGeneration());
+    }
+
+    private static class InMemoryChannel implements CacheInvalidationChannel {
+
+        private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+        private final List<String> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(String message) {
+
+            published.add(message);
+            listeners.forEach(listener -> listener.accept(message));
+        }
+
+        @Override
+        public void subscribe(Consumer<String> listener) {
+
+            listeners.add(listener);
+        }
+
+        @Override
+        public void close() {
+
+        }
+    }
+}
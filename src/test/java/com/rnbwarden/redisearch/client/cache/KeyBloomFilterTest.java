@@ -0,0 +1,38 @@
+package com.rnbwarden.redisearch.client.cache;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class KeyBloomFilterTest {
+
+    @Test
+    public void testNoFalseNegatives() {
+
+        KeyBloomFilter filter = new KeyBloomFilter(10000, 0.01);
+        IntStream.range(0, 10000).forEach(i -> filter.add("product:" + i));
+        IntStream.range(0, 10000).forEach(i -> assertTrue(filter.mightContain("product:" + i)));
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+
+        KeyBloomFilter filter = new KeyBloomFilter(10000, 0.01);
+        IntStream.range(0, 10000).forEach(i -> filter.add("product:" + i));
+
+        long falsePositives = IntStream.range(0, 100000)
+                .filter(i -> filter.mightContain("product:missing" + i))
+                .count();
+        assertTrue("false positives: " + falsePositives, falsePositives < 2000);
+    }
+
+    @Test
+    public void testSizing() {
+
+        KeyBloomFilter filter = new KeyBloomFilter(1000, 0.01);
+        assertTrue(filter.getBitCount() >= 9586);
+        assertEquals(7, filter.getHashCount());
+    }
+}
@@ -0,0 +1,66 @@
+package com.rnbwarden.redisearch.client.cache;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class NearCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final NearCache<String> cache = new NearCache<>(2, Duration.ofSeconds(10), nanoTime::get);
+
+    @Test
+    public void testCachesValues() {
+
+        assertNull(cache.get("a"));
+        cache.put("a", "A", cache.getVersion());
+        assertEquals("A", cache.get("a"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+
+        cache.put("a", "A", cache.getVersion());
+        cache.put("b", "B", cache.getVersion());
+        cache.get("a");
+        cache.put("c", "C", cache.getVersion());
+        assertEquals(2, cache.size());
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    public void testExpiresValues() {
+
+        cache.put("a", "A", cache.getVersion());
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        cache.put("a", "A", cache.getVersion());
+        cache.put("b", "B", cache.getVersion());
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        assertEquals("B", cache.get("b"));
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testValueReadBeforeInvalidationIsNotCached() {
+
+        long readVersion = cache.getVersion();
+        cache.invalidate("a");
+        cache.put("a", "stale", readVersion);
+        assertNull(cache.get("a"));
+    }
+}
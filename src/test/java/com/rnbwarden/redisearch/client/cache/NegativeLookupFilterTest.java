@@ -0,0 +1,107 @@
+package com.rnbwarden.redisearch.client.cache;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+
+public class NegativeLookupFilterTest {
+
+    private final Set<String> keys = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch scanStarted = new CountDownLatch(1);
+    private final CountDownLatch scanResumed = new CountDownLatch(1);
+    private volatile boolean pauseScan;
+    private NegativeLookupFilter filter;
+
+    private void scan(Consumer<String> keyConsumer) {
+
+        scanStarted.countDown();
+        if (pauseScan) {
+            try {
+                scanResumed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        keys.forEach(keyConsumer);
+    }
+
+    private NegativeLookupFilter createFilter() {
+
+        filter = new NegativeLookupFilter("product", 1000, 0.001, Duration.ofHours(1), this::scan);
+        return filter;
+    }
+
+    @After
+    public void tearDown() {
+
+        filter.close();
+    }
+
+    @Test
+    public void testSkipsMissingKeys() throws Exception {
+
+        keys.add("product:1");
+        createFilter();
+        awaitReady();
+
+        assertTrue(filter.mightContain("product:1"));
+        assertFalse(filter.mightContain("product:2"));
+        assertEquals(1, filter.getSkippedLookups());
+
+        filter.add("product:2");
+        assertTrue(filter.mightContain("product:2"));
+    }
+
+    @Test
+    public void testEveryKeyMightExistUntilReady() throws Exception {
+
+        pauseScan = true;
+        createFilter();
+        assertTrue(scanStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(filter.mightContain("product:unknown"));
+        scanResumed.countDown();
+        awaitReady();
+        assertFalse(filter.mightContain("product:unknown"));
+    }
+
+    @Test
+    public void testRebuildDropsDeletedKeys() throws Exception {
+
+        keys.add("product:deleted");
+        createFilter();
+        awaitReady();
+        assertTrue(filter.mightContain("product:deleted"));
+
+        keys.remove("product:deleted");
+        filter.rebuild();
+        assertFalse(filter.mightContain("product:deleted"));
+    }
+
+    @Test
+    public void testKeysAddedDuringRebuildAreKept() throws Exception {
+
+        pauseScan = true;
+        createFilter();
+        assertTrue(scanStarted.await(5, TimeUnit.SECONDS));
+        filter.add("product:added");
+        scanResumed.countDown();
+        awaitReady();
+        assertTrue(filter.mightContain("product:added"));
+    }
+
+    private void awaitReady() throws InterruptedException {
+
+        for (int i = 0; i < 500 && !filter.isReady(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(filter.isReady());
+    }
+}
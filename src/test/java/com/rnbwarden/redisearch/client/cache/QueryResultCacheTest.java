@@ -0,0 +1,99 @@
+package com.rnbwarden.redisearch.client.cache;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class QueryResultCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final QueryResultCache<String> cache = new QueryResultCache<>(2, Duration.ofSeconds(10), nanoTime::get);
+
+    private String load(String key) {
+
+        return cache.get(key, () -> key + loads.incrementAndGet());
+    }
+
+    @Test
+    public void testCachesResults() {
+
+        assertEquals("a1", load("a"));
+        assertEquals("a1", load("a"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+
+        load("a");
+        load("b");
+        load("a");
+        load("c");
+        assertEquals(2, cache.size());
+        assertEquals("a1", load("a"));
+        assertEquals("b4", load("b"));
+    }
+
+    @Test
+    public void testExpiresEntries() {
+
+        load("a");
+        nanoTime.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertEquals("a1", load("a"));
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals("a2", load("a"));
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        load("a");
+        cache.invalidate();
+        assertEquals(1, cache.getGeneration());
+        assertEquals(0, cache.size());
+        assertEquals("a2", load("a"));
+    }
+
+    @Test
+    public void testResultLoadedDuringInvalidationIsNotCached() {
+
+        assertEquals("stale", cache.get("a", () -> {
+            cache.invalidate();
+            return "stale";
+        }));
+        assertEquals(0, cache.size());
+        assertEquals("a1", load("a"));
+    }
+
+    @Test
+    public void testCachesAsyncResults() {
+
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> result = cache.getAsync("a", () -> pending);
+        assertEquals(0, cache.size());
+
+        pending.complete("a1");
+        assertEquals("a1", result.join());
+        assertEquals("a1", cache.getAsync("a", () -> CompletableFuture.completedFuture("a2")).join());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testAsyncResultCompletedAfterInvalidationIsNotCached() {
+
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> result = cache.getAsync("a", () -> pending);
+        cache.invalidate();
+        pending.complete("stale");
+
+        assertEquals("stale", result.join());
+        assertEquals(0, cache.size());
+    }
+}
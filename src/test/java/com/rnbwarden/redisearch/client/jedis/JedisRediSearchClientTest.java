@@ -0,0 +1,43 @@
+package com.rnbwarden.redisearch.client.jedis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import io.redisearch.client.Client;
+import org.junit.Test;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.rnbwarden.redisearch.entity.ProductEntity.BRAND;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class JedisRediSearchClientTest {
+
+    @Test
+    public void testAddsFieldsStillMissingAfterConcurrentAlter() {
+
+        Client client = mock(Client.class);
+        when(client.getInfo())
+                .thenReturn(Map.of("fields", List.of()))
+                .thenReturn(Map.of("fields", List.of(List.of(BRAND, "type", "TAG"))));
+        List<Integer> alteredFieldCounts = new ArrayList<>();
+        doAnswer(invocation -> {
+            alteredFieldCounts.add(invocation.getArguments().length);
+            if (alteredFieldCounts.size() == 1) {
+                //another instance added the brand field in between
+                throw new JedisDataException("Duplicate field in schema");
+            }
+            return true;
+        }).when(client).alterIndex(any());
+
+        new JedisRediSearchClient<>(ProductEntity.class, client, new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper()), 1000L);
+
+        assertEquals(List.of(3, 2), alteredFieldCounts);
+        verify(client, times(2)).getInfo();
+    }
+}
@@ -0,0 +1,42 @@
+package com.rnbwarden.redisearch.client.lettuce;
+
+import com.redislabs.lettusearch.RediSearchClient;
+import io.lettuce.core.pubsub.RedisPubSubListener;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.sync.RedisPubSubCommands;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class LettuceCacheInvalidationChannelTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNotifiesListenerOnResubscribe() {
+
+        RediSearchClient rediSearchClient = mock(RediSearchClient.class);
+        StatefulRedisPubSubConnection<String, String> connection = mock(StatefulRedisPubSubConnection.class);
+        when(connection.sync()).thenReturn(mock(RedisPubSubCommands.class));
+        when(rediSearchClient.connectPubSub()).thenReturn(connection);
+        List<String> messages = new ArrayList<>();
+
+        LettuceCacheInvalidationChannel channel = new LettuceCacheInvalidationChannel("product", rediSearchClient);
+        channel.subscribe(messages::add);
+        ArgumentCaptor<RedisPubSubListener<String, String>> listener = ArgumentCaptor.forClass(RedisPubSubListener.class);
+        verify(connection).addListener(listener.capture());
+
+        listener.getValue().subscribed("product.cache:invalidate", 1);
+        listener.getValue().message("product.cache:invalidate", "instance1");
+        //Lettuce resubscribes after a reconnect
+        listener.getValue().subscribed("product.cache:invalidate", 1);
+        listener.getValue().subscribed("other.cache:invalidate", 1);
+
+        assertEquals(Arrays.asList("instance1", null), messages);
+    }
+}
@@ -0,0 +1,27 @@
+package com.rnbwarden.redisearch.client.lettuce;
+
+import org.junit.Test;
+
+import static com.rnbwarden.redisearch.client.lettuce.LettuceKeyspaceSubscription.isKeyspaceEventsEnabled;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LettuceKeyspaceSubscriptionTest {
+
+    @Test
+    public void testKeyspaceEventsEnabled() {
+
+        assertTrue(isKeyspaceEventsEnabled("KA"));
+        assertTrue(isKeyspaceEventsEnabled("Khg"));
+        assertTrue(isKeyspaceEventsEnabled("KEA"));
+    }
+
+    @Test
+    public void testKeyspaceEventsDisabled() {
+
+        assertFalse(isKeyspaceEventsEnabled(null));
+        assertFalse(isKeyspaceEventsEnabled(""));
+        assertFalse(isKeyspaceEventsEnabled("EA"));
+        assertFalse(isKeyspaceEventsEnabled("Kh"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.rnbwarden.redisearch.client.lettuce;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redislabs.lettusearch.RediSearchClient;
+import com.redislabs.lettusearch.StatefulRediSearchConnection;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import io.lettuce.core.codec.RedisCodec;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class LettuceRediSearchClientTest {
+
+    @Test
+    public void testReservesAConnectionPerWriter() {
+
+        LettuceRediSearchClient<ProductEntity> client = client(null);
+
+        assertEquals(12, client.reserveWriteConnections(12));
+        assertEquals(2, client.reserveWriteConnections(2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWritersShareTheSharedConnections() {
+
+        LettuceSharedConnections sharedConnections = new LettuceSharedConnections(() -> mock(StatefulRediSearchConnection.class), 2);
+        LettuceRediSearchClient<ProductEntity> client = client(sharedConnections);
+
+        assertEquals(2, client.reserveWriteConnections(12));
+        assertEquals(1, client.reserveWriteConnections(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private LettuceRediSearchClient<ProductEntity> client(LettuceSharedConnections sharedConnections) {
+
+        //the index is never initialized, so no connection is opened
+        return new LettuceRediSearchClient<>(ProductEntity.class, mock(RediSearchClient.class), mock(RedisCodec.class),
+                new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper()), null, sharedConnections, runnable -> {
+        });
+    }
+}
@@ -0,0 +1,79 @@
+package com.rnbwarden.redisearch.client.lettuce;
+
+import com.redislabs.lettusearch.StatefulRediSearchConnection;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class LettuceSharedConnectionsTest {
+
+    private final List<StatefulRediSearchConnection<String, Object>> opened = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    private final Supplier<StatefulRediSearchConnection<String, Object>> connectionSupplier = () -> {
+        StatefulRediSearchConnection<String, Object> connection = mock(StatefulRediSearchConnection.class);
+        synchronized (opened) {
+            opened.add(connection);
+        }
+        return connection;
+    };
+
+    @Test
+    public void testThreadKeepsItsStripe() {
+
+        LettuceSharedConnections sharedConnections = new LettuceSharedConnections(connectionSupplier, 4);
+
+        assertEquals(0, sharedConnections.getOpenConnections());
+        StatefulRediSearchConnection<String, Object> connection = sharedConnections.connection();
+        assertSame(connection, sharedConnections.connection());
+        assertEquals(1, sharedConnections.getOpenConnections());
+        assertEquals(1, opened.size());
+    }
+
+    @Test
+    public void testThreadsShareTheStripes() throws Exception {
+
+        LettuceSharedConnections sharedConnections = new LettuceSharedConnections(connectionSupplier, 2);
+        Set<StatefulRediSearchConnection<String, Object>> used = ConcurrentHashMap.newKeySet();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            threads.add(new Thread(() -> used.add(sharedConnections.connection())));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(used.size() <= 2);
+        assertEquals(used.size(), opened.size());
+        assertEquals(used.size(), sharedConnections.getOpenConnections());
+    }
+
+    @Test
+    public void testCloseClosesEveryConnection() {
+
+        LettuceSharedConnections sharedConnections = new LettuceSharedConnections(connectionSupplier, 1);
+        StatefulRediSearchConnection<String, Object> connection = sharedConnections.connection();
+
+        sharedConnections.close();
+        verify(connection).close();
+        assertEquals(0, sharedConnections.getOpenConnections());
+        assertNotSame(connection, sharedConnections.connection());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRequiresAStripe() {
+
+        new LettuceSharedConnections(connectionSupplier, 0);
+    }
+}
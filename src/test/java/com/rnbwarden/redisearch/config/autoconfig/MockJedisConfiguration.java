@@ -5,6 +5,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -17,6 +20,7 @@ public class MockJedisConfiguration {
 
         JedisSearchConnectionFactory jedisSearchConnectionFactory = mock(JedisSearchConnectionFactory.class);
         Client client = mock(Client.class);
+        when(client.getInfo()).thenReturn(Map.of("fields", List.of()));
         when(jedisSearchConnectionFactory.getClientForStandalone(anyString())).thenReturn(client);
         return jedisSearchConnectionFactory;
     }
@@ -1,14 +1,20 @@
 package com.rnbwarden.redisearch.config.autoconfig;
 
+import com.redislabs.lettusearch.RediSearchAsyncCommands;
 import com.redislabs.lettusearch.RediSearchClient;
 import com.redislabs.lettusearch.RediSearchCommands;
 import com.redislabs.lettusearch.StatefulRediSearchConnection;
+import io.lettuce.core.RedisFuture;
 import io.lettuce.core.codec.RedisCodec;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import java.time.Duration;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +36,12 @@ public class MockLettuceConfiguration {
         when(statefulRediSearchConnection.sync()).thenReturn(rediSearchCommands);
 
         when(rediSearchCommands.info()).thenReturn("test");
+        when(rediSearchCommands.ftInfo(anyString())).thenReturn(List.of("fields", List.of()));
+
+        RediSearchAsyncCommands rediSearchAsyncCommands = mock(RediSearchAsyncCommands.class);
+        when(statefulRediSearchConnection.async()).thenReturn(rediSearchAsyncCommands);
+        when(statefulRediSearchConnection.getTimeout()).thenReturn(Duration.ofSeconds(1));
+        when(rediSearchAsyncCommands.alter(anyString(), any(), any())).thenReturn(mock(RedisFuture.class));
 
         return rediSearchClient;
 
@@ -0,0 +1,60 @@
+package com.rnbwarden.redisearch.config.autoconfig;
+
+import com.rnbwarden.redisearch.client.RediSearchClient;
+import org.junit.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RediSearchHealthIndicatorTest {
+
+    private final RediSearchIndexInitializer indexInitializer = new RediSearchIndexInitializer();
+    private final RediSearchHealthIndicator healthIndicator = new RediSearchHealthIndicator(indexInitializer);
+
+    private void register(String index, boolean ready, Throwable failure) {
+
+        RediSearchClient<?> client = mock(RediSearchClient.class);
+        when(client.isIndexReady()).thenReturn(ready);
+        when(client.getIndexInitializationFailure()).thenReturn(Optional.ofNullable(failure));
+        indexInitializer.register(index, client);
+    }
+
+    @Test
+    public void testUpOnceEveryIndexIsReady() {
+
+        register("product", true, null);
+        register("sku", true, null);
+
+        Health health = healthIndicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(Map.of("product", RediSearchHealthIndicator.READY, "sku", RediSearchHealthIndicator.READY), health.getDetails());
+    }
+
+    @Test
+    public void testOutOfServiceWhileInitializing() {
+
+        register("product", true, null);
+        register("sku", false, null);
+
+        Health health = healthIndicator.health();
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(RediSearchHealthIndicator.INITIALIZING, health.getDetails().get("sku"));
+    }
+
+    @Test
+    public void testDownOnFailure() {
+
+        register("product", false, new IllegalStateException("Connection refused"));
+        register("sku", false, null);
+
+        Health health = healthIndicator.health();
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("FAILED: Connection refused", health.getDetails().get("product"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.rnbwarden.redisearch.config.factorybean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rnbwarden.redisearch.CompressingJacksonSerializer;
+import com.rnbwarden.redisearch.compression.CompressionType;
+import com.rnbwarden.redisearch.config.factorybean.RediSearchLettuceClientFactoryBean.LettuceRedisCodec;
+import com.rnbwarden.redisearch.entity.Brand;
+import com.rnbwarden.redisearch.entity.ProductEntity;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class LettuceRedisCodecTest {
+
+    private final ProductEntity product = new ProductEntity("id123", "FALCON01", Brand.NIKE, List.of());
+    private final CompressingJacksonSerializer<ProductEntity> serializer = new CompressingJacksonSerializer<>(ProductEntity.class, new ObjectMapper(), CompressionType.DEFLATE);
+
+    @Test
+    public void testDecodesValuesToByteArraysByDefault() {
+
+        LettuceRedisCodec codec = new LettuceRedisCodec();
+        byte[] document = serializer.serialize(product);
+
+        assertEquals("sdoc", codec.decodeKey(utf8("sdoc")));
+        assertArrayEquals(document, (byte[]) codec.decodeValue(direct(document)));
+    }
+
+    @Test
+    public void testDecodesDocumentsFromReplyBuffer() {
+
+        LettuceRedisCodec codec = new LettuceRedisCodec(serializer);
+
+        codec.decodeKey(utf8("brand"));
+        assertEquals("NIKE", codec.decodeValue(utf8("NIKE")));
+
+        codec.decodeKey(utf8("sdoc"));
+        assertEquals(product, codec.decodeValue(direct(serializer.serialize(product))));
+
+        assertEquals("FALCON01", codec.decodeValue(utf8("FALCON01")));
+    }
+
+    @Test
+    public void testFallsBackToByteArrayForUnreadableDocuments() {
+
+        LettuceRedisCodec codec = new LettuceRedisCodec(serializer);
+        byte[] invalid = {CompressionType.DEFLATE.getHeader(), 1, 2, 3};
+
+        codec.decodeKey(utf8("sdoc"));
+        assertArrayEquals(invalid, (byte[]) codec.decodeValue(direct(invalid)));
+    }
+
+    @Test
+    public void testDecodesTextAfterNilDocument() {
+
+        LettuceRedisCodec codec = new LettuceRedisCodec(serializer);
+
+        //a nil sdoc is not passed to the codec, leaving the next reply's value to be decoded
+        codec.decodeKey(utf8("sdoc"));
+        assertEquals("FALCON01", codec.decodeValue(utf8("FALCON01")));
+    }
+
+    @Test
+    public void testDecodesDictionaryCompressedDocumentsToByteArrays() {
+
+        LettuceRedisCodec codec = new LettuceRedisCodec(serializer);
+        byte[] document = {CompressionType.ZSTD_DICTIONARY.getHeader(), 0, 0, 0, 1};
+
+        codec.decodeKey(utf8("sdoc"));
+        assertArrayEquals(document, (byte[]) codec.decodeValue(direct(document)));
+    }
+
+    @Test
+    public void testKeepsDecodingStatePerCodec() {
+
+        LettuceRedisCodec first = new LettuceRedisCodec(serializer);
+        LettuceRedisCodec second = new LettuceRedisCodec(serializer);
+
+        first.decodeKey(utf8("sdoc"));
+        second.decodeKey(utf8("brand"));
+        assertEquals("NIKE", second.decodeValue(utf8("NIKE")));
+        assertEquals(product, first.decodeValue(direct(serializer.serialize(product))));
+    }
+
+    private static ByteBuffer utf8(String value) {
+
+        return direct(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ByteBuffer direct(byte[] bytes) {
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer;
+    }
+}
@@ -2,9 +2,11 @@ package com.rnbwarden.redisearch.entity;
 
 import org.junit.Test;
 
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class QueryFieldTest {
 
@@ -44,4 +46,36 @@ public class QueryFieldTest {
             assertEquals("field not properly escaped: '" + c + "'", ("\\" + c), QueryField.escapeSpecialCharacters(c));
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReturnsUnescapedValueAsIs() {
+
+        String value = "FALCON01_black";
+        assertSame(value, QueryField.escapeSpecialCharacters(value));
+    }
+
+    @Test
+    public void testEscapesPipePairs() {
+
+        assertEquals("a|b", QueryField.escapeSpecialCharacters("a|b"));
+        assertEquals("a\\||b", QueryField.escapeSpecialCharacters("a||b"));
+        assertEquals("a\\|&b", QueryField.escapeSpecialCharacters("a|&b"));
+        assertEquals("a\\&|b", QueryField.escapeSpecialCharacters("a&|b"));
+    }
+
+    @Test
+    public void testMatchesRegexEscaping() {
+
+        String regex = "([,.<>{}\\[\\]\"':;!@#$%^&*()\\-+=~\\\\\\s]|[&|]{2})";
+        String alphabet = "ab1_|&,. \t\n{}[]\"'\\-\u00e9\u20ac";
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = random.nextInt(12); j > 0; j--) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String value = sb.toString();
+            assertEquals(value, value.replaceAll(regex, "\\\\$1"), QueryField.escapeSpecialCharacters(value));
+        }
+    }
+}